@@ -0,0 +1,64 @@
+package benchmarks;
+
+import com.intellij.psi.PsiClass;
+import models.BuilderOptions;
+import models.FieldDescriptor;
+import org.openjdk.jmh.annotations.*;
+import services.BuilderService;
+
+import java.util.Collections;
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class BuilderGenerationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int fieldCount;
+
+    private GeneratorFixture fixture;
+    private BuilderService builderService;
+    private PsiClass targetClass;
+    private int invocation;
+
+    @Setup(Level.Trial)
+    public void setUpFixture() {
+        fixture = GeneratorFixture.create();
+        builderService = BuilderService.getInstance(fixture.getProject());
+    }
+
+    @Setup(Level.Invocation)
+    public void addTargetClass() {
+        targetClass = fixture.addSyntheticClass("Target" + invocation++, fieldCount);
+    }
+
+    @Benchmark
+    public PsiClass generateBuilder() {
+        return fixture.runWriteCommand(() -> {
+            final List<FieldDescriptor> fields = builderService.collectFieldDescriptors(targetClass);
+            final BuilderService.BuilderMembers builderMembers = builderService.createBuilderMembers(
+                    targetClass, fields, BuilderOptions.DEFAULT, Collections.emptyList()
+            );
+            if (builderMembers != null) {
+                builderService.addBuilderMembers(targetClass, builderMembers);
+            }
+            return builderService.findBuilderClass(targetClass);
+        });
+    }
+
+    @Benchmark
+    public String renderBuilder() {
+        return fixture.compute(() -> builderService.renderBuilderMembers(
+                "Target", builderService.collectFieldDescriptors(targetClass), BuilderOptions.DEFAULT
+        ));
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteTargetClass() {
+        fixture.delete(targetClass);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownFixture() {
+        fixture.tearDown();
+    }
+}
@@ -0,0 +1,97 @@
+package benchmarks;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.EdtTestUtil;
+import com.intellij.testFramework.fixtures.*;
+import fixtures.AndroidStubs;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Supplier;
+
+public class GeneratorFixture {
+
+    private static final String BENCHMARK_COMMAND = "Navitel Benchmark";
+    private static final String BENCHMARK_PACKAGE = "bench";
+
+    private final JavaCodeInsightTestFixture fixture;
+
+    private GeneratorFixture(@NotNull JavaCodeInsightTestFixture fixture) {
+        this.fixture = fixture;
+    }
+
+    public static GeneratorFixture create() {
+        final TestFixtureBuilder<IdeaProjectTestFixture> projectBuilder = IdeaTestFixtureFactory
+                .getFixtureFactory()
+                .createLightFixtureBuilder(LightJavaCodeInsightFixtureTestCase.JAVA_8);
+        final JavaCodeInsightTestFixture fixture = JavaTestFixtureFactory.getFixtureFactory()
+                .createCodeInsightFixture(projectBuilder.getFixture());
+        EdtTestUtil.runInEdtAndWait(() -> {
+            fixture.setUp();
+            AndroidStubs.addTo(fixture);
+        });
+
+        return new GeneratorFixture(fixture);
+    }
+
+    public Project getProject() {
+        return fixture.getProject();
+    }
+
+    public PsiDirectory getSourceDirectory() {
+        return EdtTestUtil.runInEdtAndGet(() -> fixture.getPsiManager().findDirectory(
+                fixture.getTempDirFixture().findOrCreateDir(BENCHMARK_PACKAGE)
+        ));
+    }
+
+    public PsiClass addSyntheticClass(@NotNull String name, int fieldCount) {
+        final StringBuilder classText = new StringBuilder("package " + BENCHMARK_PACKAGE + ";\n")
+                .append("public class ").append(name).append(" {\n");
+        for (int i = 0; i < fieldCount; i++) {
+            classText.append("    private ").append(fieldType(i)).append(" field").append(i).append(";\n");
+        }
+        classText.append("}\n");
+
+        return EdtTestUtil.runInEdtAndGet(() -> fixture.addClass(classText.toString()));
+    }
+
+    public void delete(@NotNull PsiClass psiClass) {
+        runWriteCommand(() -> {
+            final PsiFile file = psiClass.getContainingFile();
+            if (file != null && file.isValid()) {
+                file.delete();
+            }
+            return null;
+        });
+    }
+
+    public <T> T compute(@NotNull Supplier<T> computation) {
+        return EdtTestUtil.runInEdtAndGet(computation::get);
+    }
+
+    public <T> T runWriteCommand(@NotNull Supplier<T> command) {
+        return EdtTestUtil.runInEdtAndGet(() -> WriteCommandAction.writeCommandAction(getProject())
+                .withName(BENCHMARK_COMMAND)
+                .compute(command::get));
+    }
+
+    public void tearDown() {
+        EdtTestUtil.runInEdtAndWait(fixture::tearDown);
+    }
+
+    private static String fieldType(int index) {
+        switch (index % 4) {
+            case 0:
+                return "int";
+            case 1:
+                return "String";
+            case 2:
+                return "java.util.List<String>";
+            default:
+                return "Long";
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package benchmarks;
+
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiMethod;
+import org.openjdk.jmh.annotations.*;
+import services.FragmentService;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class ParentComponentMethodsBenchmark {
+
+    private GeneratorFixture fixture;
+    private FragmentService fragmentService;
+
+    @Setup(Level.Trial)
+    public void setUpFixture() {
+        fixture = GeneratorFixture.create();
+        fragmentService = FragmentService.getInstance(fixture.getProject());
+        fixture.compute(fragmentService::provideParentComponentMethods);
+    }
+
+    @Benchmark
+    public List<PsiMethod> coldCall(ColdCache coldCache) {
+        return fixture.compute(fragmentService::provideParentComponentMethods);
+    }
+
+    @Benchmark
+    public List<PsiMethod> warmCall() {
+        return fixture.compute(fragmentService::provideParentComponentMethods);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownFixture() {
+        fixture.tearDown();
+    }
+
+    @State(Scope.Benchmark)
+    public static class ColdCache {
+
+        @Setup(Level.Invocation)
+        public void dropCaches(ParentComponentMethodsBenchmark benchmark) {
+            benchmark.fixture.compute(() -> {
+                PsiManager.getInstance(benchmark.fixture.getProject()).dropPsiCaches();
+                return null;
+            });
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package benchmarks;
+
+import com.intellij.psi.PsiExpression;
+import com.intellij.psi.PsiIfStatement;
+import com.intellij.psi.PsiStatement;
+import org.openjdk.jmh.annotations.*;
+import utils.PsiUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class PsiUtilsBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private GeneratorFixture fixture;
+    private PsiUtils psiUtils;
+    private List<String> params;
+    private List<PsiStatement> statements;
+    private PsiExpression condition;
+
+    @Setup(Level.Trial)
+    public void setUpFixture() {
+        fixture = GeneratorFixture.create();
+        psiUtils = PsiUtils.getInstance(fixture.getProject());
+        params = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            params.add("param" + i);
+        }
+        statements = fixture.compute(() -> {
+            final List<PsiStatement> createdStatements = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                createdStatements.add(psiUtils.createStatementFromText("call(" + i + ");", null));
+            }
+            return createdStatements;
+        });
+        condition = fixture.compute(() -> psiUtils.createExpressionFromText("flag", null));
+    }
+
+    @Benchmark
+    public String createMethodCall() {
+        return psiUtils.createMethodCall("call", params, "target", false);
+    }
+
+    @Benchmark
+    public String createLambda() {
+        return fixture.compute(() -> psiUtils.createLambda(params, statements));
+    }
+
+    @Benchmark
+    public PsiIfStatement createIfStatement() {
+        return fixture.compute(() -> psiUtils.createIfStatement(condition, statements, statements));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownFixture() {
+        fixture.tearDown();
+    }
+}
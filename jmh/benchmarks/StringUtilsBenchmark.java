@@ -0,0 +1,44 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import utils.LegacyStringUtils;
+import utils.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class StringUtilsBenchmark {
+
+    private static final String[] WORDS = {"Main", "User", "Profile", "Settings", "Dialog", "Item", "List", "Detail"};
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private List<String> names;
+
+    @Setup(Level.Trial)
+    public void setUpNames() {
+        names = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            names.add(WORDS[i % WORDS.length] + WORDS[(i / WORDS.length) % WORDS.length] + "Fragment");
+        }
+    }
+
+    @Benchmark
+    public void convertCamelToSnake(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(StringUtils.convertCamelToSnake(name, "fragment", null, false));
+            blackhole.consume(StringUtils.convertCamelToSnake(name, null, "tag", true));
+        }
+    }
+
+    @Benchmark
+    public void convertCamelToSnakeLegacy(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(LegacyStringUtils.convertCamelToSnake(name, "fragment", null, false));
+            blackhole.consume(LegacyStringUtils.convertCamelToSnake(name, null, "tag", true));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package services;
+
+import benchmarks.GeneratorFixture;
+import com.intellij.psi.JavaDirectoryService;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiMethod;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class DialogFragmentGenerationBenchmark {
+
+    @Param({"1", "3", "5"})
+    public int methodCount;
+
+    private GeneratorFixture fixture;
+    private DialogFragmentService dialogFragmentService;
+    private PsiDirectory sourceDirectory;
+    private List<PsiMethod> methods;
+    private PsiClass dialogFragmentClass;
+    private int invocation;
+
+    @Setup(Level.Trial)
+    public void setUpFixture() {
+        fixture = GeneratorFixture.create();
+        dialogFragmentService = DialogFragmentService.getInstance(fixture.getProject());
+        sourceDirectory = fixture.getSourceDirectory();
+        methods = fixture.compute(() -> {
+            final List<PsiMethod> parentMethods = dialogFragmentService.provideParentComponentMethods();
+            return parentMethods.subList(0, Math.min(methodCount, parentMethods.size()));
+        });
+    }
+
+    @Setup(Level.Invocation)
+    public void addDialogFragmentClass() {
+        dialogFragmentClass = fixture.runWriteCommand(() -> JavaDirectoryService.getInstance().createClass(
+                sourceDirectory, "BenchDialogFragment" + invocation++
+        ));
+    }
+
+    @Benchmark
+    public List<PsiMethod> createComponentMethods() {
+        return fixture.runWriteCommand(
+                () -> dialogFragmentService.createComponentMethods(dialogFragmentClass, methods, false)
+        );
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteDialogFragmentClass() {
+        fixture.delete(dialogFragmentClass);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownFixture() {
+        fixture.tearDown();
+    }
+}
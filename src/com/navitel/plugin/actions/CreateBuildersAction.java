@@ -0,0 +1,58 @@
+package com.navitel.plugin.actions;
+
+import com.intellij.notification.NotificationGroup;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import org.jetbrains.annotations.NotNull;
+import services.BuilderService;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class CreateBuildersAction extends AnAction {
+
+    private static final String GENERATE_BUILDERS_TITLE = "Generating Builders";
+    private static final String BUILDERS_GENERATED = " builders generated";
+    private static final NotificationGroup NOTIFICATION_GROUP = NotificationGroup.balloonGroup("Navitel Tools");
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent anActionEvent) {
+        final Project project = anActionEvent.getProject();
+        final VirtualFile[] selectedFiles = anActionEvent.getData(CommonDataKeys.VIRTUAL_FILE_ARRAY);
+        if (project == null || selectedFiles == null || selectedFiles.length == 0) {
+            return;
+        }
+
+        final List<VirtualFile> roots = Arrays.asList(selectedFiles);
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, GENERATE_BUILDERS_TITLE, true) {
+            private int generatedBuilders;
+
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                generatedBuilders = BuilderService.getInstance(project).generateBuilders(roots, indicator);
+            }
+
+            @Override
+            public void onSuccess() {
+                NOTIFICATION_GROUP.createNotification(
+                        generatedBuilders + BUILDERS_GENERATED, NotificationType.INFORMATION
+                ).notify(project);
+            }
+        });
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent anActionEvent) {
+        final VirtualFile[] selectedFiles = anActionEvent.getData(CommonDataKeys.VIRTUAL_FILE_ARRAY);
+        anActionEvent.getPresentation().setEnabledAndVisible(
+                anActionEvent.getProject() != null && selectedFiles != null && selectedFiles.length > 0
+        );
+    }
+}
@@ -0,0 +1,81 @@
+package com.navitel.plugin.actions;
+
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiNameHelper;
+import forms.ComponentBatchForm;
+import models.ComponentSpec;
+import org.jetbrains.annotations.NotNull;
+import services.ComponentBatchService;
+import utils.ComponentSpecParser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CreateComponentsBatchAction extends AnAction {
+
+    private static final String SPEC_EXTENSION = "csv";
+    private static final String CREATE_COMPONENTS_COMMAND = "Create Android Components";
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent anActionEvent) {
+        final Project project = anActionEvent.getProject();
+        final VirtualFile selectedFile = anActionEvent.getData(CommonDataKeys.VIRTUAL_FILE);
+        if (project == null || selectedFile == null) {
+            return;
+        }
+
+        final List<ComponentSpec> specs;
+        final VirtualFile targetDirectory;
+        if (isSpecFile(selectedFile)) {
+            final Document specDocument = FileDocumentManager.getInstance().getDocument(selectedFile);
+            if (specDocument == null) {
+                return;
+            }
+            try {
+                specs = ComponentSpecParser.parse(specDocument.getText(), PsiNameHelper.getInstance(project));
+            } catch (IllegalArgumentException exception) {
+                Messages.showErrorDialog(project, exception.getLocalizedMessage(), CREATE_COMPONENTS_COMMAND);
+                return;
+            }
+            targetDirectory = selectedFile.getParent();
+        } else {
+            final ComponentBatchForm batchForm = new ComponentBatchForm(project);
+            if (!batchForm.showAndGet()) {
+                return;
+            }
+            specs = batchForm.getComponentSpecs();
+            targetDirectory = selectedFile.isDirectory() ? selectedFile : selectedFile.getParent();
+        }
+
+        final PsiDirectory psiDirectory = targetDirectory != null
+                ? PsiManager.getInstance(project).findDirectory(targetDirectory)
+                : null;
+        if (psiDirectory != null && !specs.isEmpty()) {
+            final List<String> failures = new ArrayList<>();
+            ComponentBatchService.getInstance(project).createComponentClasses(psiDirectory, specs, failures);
+            if (!failures.isEmpty()) {
+                Messages.showErrorDialog(project, String.join("\n", failures), CREATE_COMPONENTS_COMMAND);
+            }
+        }
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent anActionEvent) {
+        anActionEvent.getPresentation().setEnabled(
+                anActionEvent.getProject() != null && anActionEvent.getData(CommonDataKeys.VIRTUAL_FILE) != null
+        );
+    }
+
+    private boolean isSpecFile(@NotNull VirtualFile file) {
+        return !file.isDirectory() && SPEC_EXTENSION.equalsIgnoreCase(file.getExtension());
+    }
+}
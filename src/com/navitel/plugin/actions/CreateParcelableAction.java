@@ -0,0 +1,101 @@
+package com.navitel.plugin.actions;
+
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.LangDataKeys;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.IncorrectOperationException;
+import forms.GenerateBuilderDialog;
+import models.FieldDescriptor;
+import org.jetbrains.annotations.NotNull;
+import services.BuilderService;
+import services.GenerationStats;
+import services.ParcelableService;
+
+import java.util.List;
+
+public class CreateParcelableAction extends AnAction {
+
+    private static final String GENERATE_PARCELABLE_COMMAND = "Generate Parcelable";
+    private static final String COLLECTING_FIELDS = "Collecting Parcelable Fields";
+    private static final String SELECT_FIELDS_TITLE = "Select Parcelable Fields";
+    private static final String FIELDS_TITLE = "Fields to write to parcel";
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent anActionEvent) {
+        final PsiClass psiClass = providePsiClass(anActionEvent);
+        if (psiClass == null) {
+            return;
+        }
+
+        final List<FieldDescriptor> fields = collectFields(psiClass);
+        if (fields == null) {
+            return;
+        }
+
+        final GenerateBuilderDialog dialog = new GenerateBuilderDialog(
+                psiClass.getProject(), fields, SELECT_FIELDS_TITLE, FIELDS_TITLE, null
+        );
+        dialog.show();
+        if (dialog.isOK()) {
+            generateParcelable(psiClass, dialog.getFields());
+        }
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent anActionEvent) {
+        final PsiClass psiClass = providePsiClass(anActionEvent);
+        anActionEvent.getPresentation().setEnabled(psiClass != null);
+    }
+
+    private PsiClass providePsiClass(@NotNull AnActionEvent anActionEvent) {
+        final PsiFile psiFile = anActionEvent.getData(LangDataKeys.PSI_FILE);
+        final Editor editor = anActionEvent.getData(LangDataKeys.EDITOR);
+        if (psiFile == null || editor == null) {
+            return null;
+        }
+        final PsiElement element = psiFile.findElementAt(editor.getCaretModel().getOffset());
+        return PsiTreeUtil.getParentOfType(element, PsiClass.class);
+    }
+
+    private List<FieldDescriptor> collectFields(@NotNull PsiClass psiClass) {
+        final Project project = psiClass.getProject();
+        final BuilderService builderService = BuilderService.getInstance(project);
+        final GenerationStats generationStats = GenerationStats.getInstance(project);
+        try (GenerationStats.Phase ignored = generationStats.startPhase(GenerationStats.PHASE_COLLECT_FIELDS)) {
+            return ProgressManager.getInstance().runProcessWithProgressSynchronously(
+                    () -> ReadAction.compute(() -> builderService.collectOwnFieldDescriptors(psiClass)),
+                    COLLECTING_FIELDS,
+                    true,
+                    project
+            );
+        } catch (ProcessCanceledException exception) {
+            return null;
+        }
+    }
+
+    private void generateParcelable(@NotNull PsiClass targetClass, @NotNull List<FieldDescriptor> fields) {
+        final Project project = targetClass.getProject();
+        try {
+            WriteCommandAction.runWriteCommandAction(
+                    project,
+                    GENERATE_PARCELABLE_COMMAND,
+                    null,
+                    () -> ParcelableService.getInstance(project).addParcelableMembers(targetClass, fields),
+                    targetClass.getContainingFile()
+            );
+        } catch (IncorrectOperationException exception) {
+            Messages.showErrorDialog(project, exception.getLocalizedMessage(), GENERATE_PARCELABLE_COMMAND);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.navitel.plugin.actions;
+
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import org.jetbrains.annotations.NotNull;
+import services.GenerationStats;
+
+public class GenerationStatsAction extends AnAction {
+
+    private static final String GENERATION_STATS_TITLE = "Generation Stats";
+    private static final String CLOSE = "Close";
+    private static final String RESET = "Reset";
+    private static final String WRITE_TO_LOG = "Write to Log";
+    private static final String LOG_PHASES = "Log Every Phase";
+    private static final String STOP_LOGGING_PHASES = "Stop Logging Phases";
+    private static final int RESET_INDEX = 1;
+    private static final int WRITE_TO_LOG_INDEX = 2;
+    private static final int TOGGLE_PHASE_LOGGING_INDEX = 3;
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent anActionEvent) {
+        final Project project = anActionEvent.getProject();
+        if (project == null) {
+            return;
+        }
+
+        final GenerationStats generationStats = GenerationStats.getInstance(project);
+        final String[] options = {
+                CLOSE, RESET, WRITE_TO_LOG, generationStats.isLogPhases() ? STOP_LOGGING_PHASES : LOG_PHASES
+        };
+        final int selectedOption = Messages.showDialog(
+                project,
+                generationStats.createReport(),
+                GENERATION_STATS_TITLE,
+                options,
+                0,
+                Messages.getInformationIcon()
+        );
+        switch (selectedOption) {
+            case RESET_INDEX:
+                generationStats.reset();
+                break;
+            case WRITE_TO_LOG_INDEX:
+                generationStats.writeReportToLog();
+                break;
+            case TOGGLE_PHASE_LOGGING_INDEX:
+                generationStats.setLogPhases(!generationStats.isLogPhases());
+                break;
+        }
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent anActionEvent) {
+        anActionEvent.getPresentation().setEnabled(anActionEvent.getProject() != null);
+    }
+}
@@ -0,0 +1,204 @@
+package com.navitel.plugin.starters;
+
+import com.intellij.ide.impl.ProjectUtil;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ApplicationStarter;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.application.ex.ApplicationEx;
+import com.intellij.openapi.application.ex.ApplicationManagerEx;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectManager;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiNameHelper;
+import models.ComponentSpec;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import services.BuilderService;
+import services.ComponentBatchService;
+import services.GenerationStats;
+import utils.ComponentSpecParser;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class GenerateStarter implements ApplicationStarter {
+
+    private static final Logger LOG = Logger.getInstance(GenerateStarter.class);
+
+    private static final String COMMAND_NAME = "navitel-generate";
+    private static final String SPEC_OPTION = "--spec";
+    private static final String TARGET_OPTION = "--target";
+    private static final String BUILDERS_OPTION = "--builders";
+    private static final String USAGE = "Usage: " + COMMAND_NAME
+            + " <project path> [" + SPEC_OPTION + " <spec.csv> [" + TARGET_OPTION + " <source directory>]]"
+            + " [" + BUILDERS_OPTION + " <directory>]...";
+    private static final String GENERATION_FAILED = "Generation failed";
+
+    private String projectPath;
+    private String specPath;
+    private String targetPath;
+    private final List<String> builderPaths = new ArrayList<>();
+
+    @Override
+    public String getCommandName() {
+        return COMMAND_NAME;
+    }
+
+    @Override
+    public boolean isHeadless() {
+        return true;
+    }
+
+    @Override
+    public void premain(String[] args) {
+        if (!parseArguments(args)) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+    }
+
+    @Override
+    public void main(String[] args) {
+        final Project project = ProjectUtil.openOrImport(
+                new File(projectPath).getAbsolutePath(), null, false
+        );
+        if (project == null) {
+            System.err.println("Cannot open project " + projectPath);
+            exit(null, 1);
+            return;
+        }
+
+        ApplicationManager.getApplication().executeOnPooledThread(() -> {
+            int exitCode = 0;
+            try {
+                DumbService.getInstance(project).waitForSmartMode();
+                if (specPath != null) {
+                    generateComponents(project);
+                }
+                if (!builderPaths.isEmpty()) {
+                    generateBuilders(project);
+                }
+                System.out.println(GenerationStats.getInstance(project).createReport());
+            } catch (IOException | IllegalArgumentException exception) {
+                System.err.println(exception.getLocalizedMessage());
+                exitCode = 1;
+            } catch (Throwable throwable) {
+                LOG.error(GENERATION_FAILED, throwable);
+                System.err.println(GENERATION_FAILED + ": " + throwable);
+                exitCode = 1;
+            } finally {
+                exit(project, exitCode);
+            }
+        });
+    }
+
+    private boolean parseArguments(@NotNull String[] args) {
+        for (int i = 1; i < args.length; i++) {
+            final String argument = args[i];
+            final String value = i + 1 < args.length ? args[i + 1] : null;
+            if (SPEC_OPTION.equals(argument) && value != null) {
+                specPath = value;
+                i++;
+            } else if (TARGET_OPTION.equals(argument) && value != null) {
+                targetPath = value;
+                i++;
+            } else if (BUILDERS_OPTION.equals(argument) && value != null) {
+                builderPaths.add(value);
+                i++;
+            } else if (projectPath == null && !argument.startsWith("--")) {
+                projectPath = argument;
+            } else {
+                return false;
+            }
+        }
+
+        return projectPath != null && (specPath != null || !builderPaths.isEmpty());
+    }
+
+    private void generateComponents(@NotNull Project project) throws IOException {
+        final VirtualFile specFile = findFile(specPath);
+        if (specFile == null) {
+            throw new IOException("Spec file not found: " + specPath);
+        }
+
+        final List<ComponentSpec> specs = ComponentSpecParser.parse(
+                VfsUtilCore.loadText(specFile), PsiNameHelper.getInstance(project)
+        );
+        final VirtualFile targetDirectory = targetPath != null ? findFile(targetPath) : specFile.getParent();
+        final PsiDirectory psiDirectory = targetDirectory != null
+                ? ReadAction.compute(() -> PsiManager.getInstance(project).findDirectory(targetDirectory))
+                : null;
+        if (psiDirectory == null) {
+            throw new IOException("Target directory not found: " + (targetPath != null ? targetPath : specPath));
+        }
+
+        final List<String> failures = new ArrayList<>();
+        ApplicationManager.getApplication().invokeAndWait(
+                () -> {
+                    final int created = ComponentBatchService.getInstance(project)
+                            .createComponentClasses(psiDirectory, specs, failures)
+                            .size();
+                    System.out.println(created + " components generated");
+                },
+                ModalityState.NON_MODAL
+        );
+        if (!failures.isEmpty()) {
+            throw new IOException(String.join("\n", failures));
+        }
+    }
+
+    private void generateBuilders(@NotNull Project project) throws IOException {
+        final List<VirtualFile> roots = new ArrayList<>();
+        for (String builderPath : builderPaths) {
+            final VirtualFile root = findFile(builderPath);
+            if (root == null) {
+                throw new IOException("Builder directory not found: " + builderPath);
+            }
+            roots.add(root);
+        }
+
+        final ProgressIndicator indicator = new EmptyProgressIndicator();
+        final int[] generated = new int[1];
+        ProgressManager.getInstance().runProcess(
+                () -> generated[0] = BuilderService.getInstance(project).generateBuilders(roots, indicator),
+                indicator
+        );
+        System.out.println(generated[0] + " builders generated");
+    }
+
+    private void exit(@Nullable Project project, int exitCode) {
+        ApplicationManager.getApplication().invokeLater(() -> {
+            try {
+                if (project != null) {
+                    FileDocumentManager.getInstance().saveAllDocuments();
+                    ProjectManager.getInstance().closeProject(project);
+                }
+            } finally {
+                ApplicationManagerEx.getApplicationEx().exit(
+                        ApplicationEx.FORCE_EXIT | ApplicationEx.EXIT_CONFIRMED, exitCode
+                );
+            }
+        }, ModalityState.NON_MODAL);
+    }
+
+    @Nullable
+    private VirtualFile findFile(@NotNull String path) {
+        return LocalFileSystem.getInstance().refreshAndFindFileByPath(
+                FileUtil.toSystemIndependentName(new File(path).getAbsolutePath())
+        );
+    }
+}
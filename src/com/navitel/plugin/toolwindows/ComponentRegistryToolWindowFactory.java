@@ -0,0 +1,20 @@
+package com.navitel.plugin.toolwindows;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowFactory;
+import com.intellij.ui.content.Content;
+import com.intellij.ui.content.ContentFactory;
+import forms.ComponentRegistryPanel;
+import org.jetbrains.annotations.NotNull;
+
+public class ComponentRegistryToolWindowFactory implements ToolWindowFactory {
+
+    @Override
+    public void createToolWindowContent(@NotNull Project project, @NotNull ToolWindow toolWindow) {
+        final ComponentRegistryPanel componentRegistryPanel = new ComponentRegistryPanel(project);
+        final Content content = ContentFactory.SERVICE.getInstance().createContent(componentRegistryPanel, "", false);
+        content.setDisposer(componentRegistryPanel);
+        toolWindow.getContentManager().addContent(content);
+    }
+}
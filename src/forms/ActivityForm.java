@@ -4,6 +4,7 @@ import com.intellij.openapi.actionSystem.DataContext;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiMethod;
 import org.jetbrains.annotations.NotNull;
+import services.AndroidService;
 import services.ActivityService;
 
 import java.util.List;
@@ -27,15 +28,27 @@ public class ActivityForm extends AndroidComponentForm {
         return ACTIVITY_CONTENT_TITLE;
     }
 
+    @Override
+    protected boolean supportsViewBinding() {
+        return true;
+    }
+
     @Override
     protected List<PsiMethod> provideComponentMethods() {
         final ActivityService activityService = ActivityService.getInstance(project);
         return activityService.provideParentComponentMethods();
     }
 
+    @Override
+    protected AndroidService provideComponentService() {
+        return ActivityService.getInstance(project);
+    }
+
     @Override
     protected void onCreateComponent() {
         final ActivityService activityService = ActivityService.getInstance(project);
-        activityService.createComponentClass(currentFile, componentNameField.getText(), getSelectedComponentMethods());
+        activityService.createComponentClass(
+                currentFile, componentNameField.getText(), getSelectedComponentMethods(), isViewBindingSelected()
+        );
     }
 }
@@ -2,19 +2,27 @@ package forms;
 
 import com.intellij.openapi.actionSystem.CommonDataKeys;
 import com.intellij.openapi.actionSystem.DataContext;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.DialogWrapper;
 import com.intellij.openapi.ui.LabeledComponent;
+import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiMethod;
 import com.intellij.ui.CollectionListModel;
 import com.intellij.ui.ToolbarDecorator;
+import com.intellij.ui.components.JBCheckBox;
 import com.intellij.ui.components.JBList;
 import com.intellij.ui.components.JBTextField;
+import com.intellij.util.Alarm;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.intellij.util.ui.JBUI;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.concurrency.CancellablePromise;
 import renderers.PsiMethodCellListRenderer;
+import services.AndroidService;
 
 import javax.swing.*;
 import javax.swing.event.DocumentEvent;
@@ -27,18 +35,25 @@ public class AndroidComponentForm extends DialogWrapper {
 
     protected static final String HEADER_TITLE = "Android Component Name:";
     protected static final String CONTENT_TITLE = "Android Component Methods to Override:";
+    protected static final String VIEW_BINDING_TITLE = "Use ViewBinding";
+    private static final int VALIDATION_DELAY_MS = 250;
 
     protected final VirtualFile currentFile;
     protected final Project project;
     protected final JBTextField componentNameField;
+    protected final JBCheckBox viewBindingCheckBox;
     private final CollectionListModel<PsiMethod> componentListItems;
+    private final Alarm validationAlarm;
+    private CancellablePromise<Pair<String, String>> validationPromise;
 
     public AndroidComponentForm(@NotNull DataContext context, @NotNull Project project) {
         super(true);
-        this.currentFile = context.getData(CommonDataKeys.VIRTUAL_FILE);;
+        this.currentFile = context.getData(CommonDataKeys.VIRTUAL_FILE);
         this.project = project;
         componentListItems = new CollectionListModel<>(provideComponentMethods());
         componentNameField = new JBTextField();
+        viewBindingCheckBox = new JBCheckBox(VIEW_BINDING_TITLE);
+        validationAlarm = new Alarm(Alarm.ThreadToUse.SWING_THREAD, getDisposable());
 
         setOKActionEnabled(false);
         setUndecorated(true);
@@ -48,25 +63,28 @@ public class AndroidComponentForm extends DialogWrapper {
     @Nullable
     @Override
     protected JComponent createNorthPanel() {
-        final GridLayout contentLayout = new GridLayout(2, 1, 0, 0);
+        final GridLayout contentLayout = new GridLayout(supportsViewBinding() ? 3 : 2, 1, 0, 0);
         final JLabel title = new JLabel(getHeaderTitle());
         final JPanel dialogPanel = new JPanel(contentLayout);
         dialogPanel.add(title);
         dialogPanel.add(componentNameField);
+        if (supportsViewBinding()) {
+            dialogPanel.add(viewBindingCheckBox);
+        }
         componentNameField.getDocument().addDocumentListener(new DocumentListener() {
             @Override
             public void insertUpdate(DocumentEvent documentEvent) {
-                setOKActionEnabled(!componentNameField.getText().isEmpty());
+                scheduleValidation();
             }
 
             @Override
             public void removeUpdate(DocumentEvent documentEvent) {
-                setOKActionEnabled(!componentNameField.getText().isEmpty());
+                scheduleValidation();
             }
 
             @Override
             public void changedUpdate(DocumentEvent documentEvent) {
-                setOKActionEnabled(!componentNameField.getText().isEmpty());
+                scheduleValidation();
             }
         });
 
@@ -108,6 +126,14 @@ public class AndroidComponentForm extends DialogWrapper {
         return CONTENT_TITLE;
     }
 
+    protected boolean supportsViewBinding() {
+        return false;
+    }
+
+    protected boolean isViewBindingSelected() {
+        return supportsViewBinding() && viewBindingCheckBox.isSelected();
+    }
+
     protected List<PsiMethod> getSelectedComponentMethods() {
         return componentListItems.getItems();
     }
@@ -116,7 +142,56 @@ public class AndroidComponentForm extends DialogWrapper {
         return Collections.emptyList();
     }
 
+    @Nullable
+    protected AndroidService provideComponentService() {
+        return null;
+    }
+
     protected void onCreateComponent() {
 
     }
+
+    private void scheduleValidation() {
+        validationAlarm.cancelAllRequests();
+        if (validationPromise != null) {
+            validationPromise.cancel();
+        }
+
+        final String name = componentNameField.getText();
+        setOKActionEnabled(false);
+        if (name.isEmpty()) {
+            setErrorText(null, componentNameField);
+            return;
+        }
+
+        validationAlarm.addRequest(() -> validateName(name), VALIDATION_DELAY_MS);
+    }
+
+    private void validateName(@NotNull String name) {
+        final AndroidService componentService = provideComponentService();
+        if (componentService == null) {
+            setOKActionEnabled(true);
+            return;
+        }
+
+        validationPromise = ReadAction
+                .nonBlocking(() -> findNameConflicts(componentService, name))
+                .expireWith(getDisposable())
+                .finishOnUiThread(ModalityState.stateForComponent(componentNameField), conflicts -> {
+                    if (!name.equals(componentNameField.getText())) {
+                        return;
+                    }
+
+                    setErrorText(conflicts.first != null ? conflicts.first : conflicts.second, componentNameField);
+                    setOKActionEnabled(conflicts.first == null);
+                })
+                .submit(AppExecutorUtil.getAppExecutorService());
+    }
+
+    private Pair<String, String> findNameConflicts(@NotNull AndroidService componentService, @NotNull String name) {
+        return Pair.create(
+                componentService.findClassNameConflict(currentFile, name),
+                componentService.findResourceConflict(currentFile, name)
+        );
+    }
 }
@@ -0,0 +1,77 @@
+package forms;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.DialogWrapper;
+import com.intellij.openapi.ui.LabeledComponent;
+import com.intellij.openapi.ui.ValidationInfo;
+import com.intellij.psi.PsiNameHelper;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.components.JBTextArea;
+import models.ComponentSpec;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import utils.ComponentSpecParser;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.Collections;
+import java.util.List;
+
+public class ComponentBatchForm extends DialogWrapper {
+
+    private static final String BATCH_TITLE = "Create Android Components";
+    private static final String BATCH_CONTENT_TITLE = "Components (kind,name[,package][,method;method]):";
+    private static final String SPEC_EXAMPLE = "# activity,MainActivity,,onCreate;onResume\n"
+            + "# fragment,ProfileFragment,com.example.profile\n"
+            + "# dialogfragment,ConfirmDialogFragment\n";
+
+    private final JBTextArea specArea;
+    private final PsiNameHelper nameHelper;
+
+    public ComponentBatchForm(@NotNull Project project) {
+        super(project);
+        nameHelper = PsiNameHelper.getInstance(project);
+        specArea = new JBTextArea(SPEC_EXAMPLE, 12, 60);
+
+        setTitle(BATCH_TITLE);
+        init();
+    }
+
+    @Nullable
+    @Override
+    protected JComponent createCenterPanel() {
+        final LabeledComponent<JBScrollPane> component = LabeledComponent.create(
+                new JBScrollPane(specArea), BATCH_CONTENT_TITLE
+        );
+        component.setPreferredSize(new Dimension(520, 280));
+
+        return component;
+    }
+
+    @Nullable
+    @Override
+    protected ValidationInfo doValidate() {
+        try {
+            if (ComponentSpecParser.parse(specArea.getText(), nameHelper).isEmpty()) {
+                return new ValidationInfo("No components specified", specArea);
+            }
+        } catch (IllegalArgumentException exception) {
+            return new ValidationInfo(exception.getMessage(), specArea);
+        }
+
+        return null;
+    }
+
+    @Override
+    public JComponent getPreferredFocusedComponent() {
+        return specArea;
+    }
+
+    public List<ComponentSpec> getComponentSpecs() {
+        try {
+            return ComponentSpecParser.parse(specArea.getText(), nameHelper);
+        } catch (IllegalArgumentException exception) {
+            return Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package forms;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.actionSystem.*;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.project.DumbAwareAction;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.SimpleToolWindowPanel;
+import com.intellij.openapi.util.Pair;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.xml.XmlFile;
+import com.intellij.ui.CollectionListModel;
+import com.intellij.ui.DoubleClickListener;
+import com.intellij.ui.ScrollPaneFactory;
+import com.intellij.ui.components.JBList;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import indexes.ComponentRegistryIndex;
+import models.ComponentEntry;
+import models.ComponentKind;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.concurrency.CancellablePromise;
+import renderers.ComponentEntryCellRenderer;
+import services.ManifestRegistry;
+
+import java.awt.event.MouseEvent;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class ComponentRegistryPanel extends SimpleToolWindowPanel implements Disposable {
+
+    private static final String TOOLBAR_PLACE = "NavitelComponentRegistry";
+    private static final String REFRESH = "Refresh";
+    private static final String EMPTY_TEXT = "No Activities, Fragments or Dialog Fragments found";
+
+    private final Project project;
+    private final CollectionListModel<ComponentEntry> components = new CollectionListModel<>();
+    private final ComponentEntryCellRenderer componentRenderer = new ComponentEntryCellRenderer();
+    private final JBList<ComponentEntry> componentList;
+    private CancellablePromise<Pair<List<ComponentEntry>, Set<String>>> refreshPromise;
+
+    public ComponentRegistryPanel(@NotNull Project project) {
+        super(true, true);
+
+        this.project = project;
+        componentList = new JBList<>(components);
+        componentList.setCellRenderer(componentRenderer);
+        componentList.getEmptyText().setText(EMPTY_TEXT);
+        new DoubleClickListener() {
+            @Override
+            protected boolean onDoubleClick(MouseEvent mouseEvent) {
+                final ComponentEntry component = componentList.getSelectedValue();
+                if (component != null) {
+                    navigate(component);
+                }
+                return component != null;
+            }
+        }.installOn(componentList);
+
+        final DefaultActionGroup actionGroup = new DefaultActionGroup(
+                new DumbAwareAction(REFRESH, null, AllIcons.Actions.Refresh) {
+                    @Override
+                    public void actionPerformed(@NotNull AnActionEvent anActionEvent) {
+                        refresh();
+                    }
+                }
+        );
+        final ActionToolbar toolbar = ActionManager.getInstance().createActionToolbar(
+                TOOLBAR_PLACE, actionGroup, true
+        );
+        toolbar.setTargetComponent(this);
+        setToolbar(toolbar.getComponent());
+        setContent(ScrollPaneFactory.createScrollPane(componentList));
+
+        project.getMessageBus().connect(this).subscribe(DumbService.DUMB_MODE, new DumbService.DumbModeListener() {
+            @Override
+            public void exitDumbMode() {
+                refresh();
+            }
+        });
+        refresh();
+    }
+
+    public void refresh() {
+        if (refreshPromise != null) {
+            refreshPromise.cancel();
+        }
+
+        refreshPromise = ReadAction.nonBlocking(this::collectComponents)
+                .inSmartMode(project)
+                .expireWith(this)
+                .finishOnUiThread(ModalityState.any(), result -> {
+                    componentRenderer.setUndeclaredComponents(result.second);
+                    components.replaceAll(result.first);
+                })
+                .submit(AppExecutorUtil.getAppExecutorService());
+    }
+
+    @Override
+    public void dispose() {
+        if (refreshPromise != null) {
+            refreshPromise.cancel();
+        }
+    }
+
+    private Pair<List<ComponentEntry>, Set<String>> collectComponents() {
+        final List<ComponentEntry> entries = ComponentRegistryIndex.getComponents(project);
+        final ManifestRegistry manifestRegistry = ManifestRegistry.getInstance(project);
+        final Set<String> undeclaredComponents = new HashSet<>();
+        for (ComponentEntry entry : entries) {
+            if (entry.getKind() != ComponentKind.ACTIVITY) {
+                continue;
+            }
+
+            final PsiClass componentClass = findComponentClass(entry);
+            final XmlFile manifest = componentClass != null ? manifestRegistry.findManifest(componentClass) : null;
+            if (manifest != null && !manifestRegistry.isDeclared(manifest, entry.getQualifiedName())) {
+                undeclaredComponents.add(entry.getQualifiedName());
+            }
+        }
+
+        return Pair.create(entries, undeclaredComponents);
+    }
+
+    private void navigate(@NotNull ComponentEntry component) {
+        final PsiClass componentClass = findComponentClass(component);
+        if (componentClass != null && componentClass.canNavigate()) {
+            componentClass.navigate(true);
+        }
+    }
+
+    private PsiClass findComponentClass(@NotNull ComponentEntry component) {
+        return JavaPsiFacade.getInstance(project).findClass(
+                component.getQualifiedName(), GlobalSearchScope.projectScope(project)
+        );
+    }
+}
@@ -4,6 +4,7 @@ import com.intellij.openapi.actionSystem.DataContext;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiMethod;
 import org.jetbrains.annotations.NotNull;
+import services.AndroidService;
 import services.DialogFragmentService;
 
 import java.util.List;
@@ -32,11 +33,16 @@ public class DialogFragmentForm extends AndroidComponentForm {
         return DialogFragmentService.getInstance(project).provideParentComponentMethods();
     }
 
+    @Override
+    protected AndroidService provideComponentService() {
+        return DialogFragmentService.getInstance(project);
+    }
+
     @Override
     protected void onCreateComponent() {
         final DialogFragmentService dialogFragmentService = DialogFragmentService.getInstance(project);
         dialogFragmentService.createComponentClass(
-                currentFile, componentNameField.getText(), getSelectedComponentMethods()
+                currentFile, componentNameField.getText(), getSelectedComponentMethods(), isViewBindingSelected()
         );
     }
 }
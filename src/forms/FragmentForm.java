@@ -4,6 +4,7 @@ import com.intellij.openapi.actionSystem.DataContext;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiMethod;
 import org.jetbrains.annotations.NotNull;
+import services.AndroidService;
 import services.FragmentService;
 
 import java.util.List;
@@ -27,14 +28,26 @@ public class FragmentForm extends AndroidComponentForm {
         return FRAGMENT_CONTENT_TITLE;
     }
 
+    @Override
+    protected boolean supportsViewBinding() {
+        return true;
+    }
+
     @Override
     protected List<PsiMethod> provideComponentMethods() {
         return FragmentService.getInstance(project).provideParentComponentMethods();
     }
 
+    @Override
+    protected AndroidService provideComponentService() {
+        return FragmentService.getInstance(project);
+    }
+
     @Override
     protected void onCreateComponent() {
         final FragmentService fragmentService = FragmentService.getInstance(project);
-        fragmentService.createComponentClass(currentFile, componentNameField.getText(), getSelectedComponentMethods());
+        fragmentService.createComponentClass(
+                currentFile, componentNameField.getText(), getSelectedComponentMethods(), isViewBindingSelected()
+        );
     }
 }
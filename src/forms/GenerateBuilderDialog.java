@@ -1,44 +1,169 @@
 package forms;
 
-import com.intellij.ide.util.DefaultPsiElementCellRenderer;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.editor.EditorFactory;
+import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.DialogWrapper;
 import com.intellij.openapi.ui.LabeledComponent;
-import com.intellij.psi.PsiClass;
-import com.intellij.psi.PsiField;
 import com.intellij.ui.CollectionListModel;
+import com.intellij.ui.EditorTextField;
+import com.intellij.ui.JBSplitter;
 import com.intellij.ui.ToolbarDecorator;
+import com.intellij.ui.components.JBCheckBox;
 import com.intellij.ui.components.JBList;
+import com.intellij.util.Alarm;
+import com.intellij.util.ui.JBUI;
+import models.BuilderOptions;
+import models.FieldDescriptor;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import renderers.FieldDescriptorCellRenderer;
+import services.BuilderService;
+import utils.StringUtils;
 
 import javax.swing.*;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import java.awt.*;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class GenerateBuilderDialog extends DialogWrapper {
 
+    private static final String REUSABLE_TITLE = "Reusable builder (reset() and per-thread reusable() instance)";
+    private static final String VALUE_CLASS_TITLE = "Value class (final fields, equals, cached hashCode, toString)";
+    private static final String PREVIEW_TITLE = "Preview";
+    private static final int PREVIEW_DELAY_MS = 150;
+
     private final LabeledComponent<JPanel> builderComponent;
-    private final CollectionListModel<PsiField> builderFields;
+    private final CollectionListModel<FieldDescriptor> builderFields;
+    private final JBCheckBox reusableCheckBox;
+    private final JBCheckBox valueClassCheckBox;
+    private final String builderClassName;
+    private final BuilderService builderService;
+    private final EditorTextField previewField;
+    private final Alarm previewAlarm;
+    private final AtomicInteger previewGeneration = new AtomicInteger();
+
+    public GenerateBuilderDialog(
+            @NotNull Project project, @NotNull List<FieldDescriptor> fields, @Nullable String builderClassName
+    ) {
+        this(project, fields, "Select Builder Fields", "Fields to include in builder", builderClassName);
+    }
 
-    public GenerateBuilderDialog(PsiClass psiClass) {
-        super(psiClass.getProject());
+    public GenerateBuilderDialog(
+            @NotNull Project project,
+            @NotNull List<FieldDescriptor> fields,
+            @NotNull String title,
+            @NotNull String fieldsTitle,
+            @Nullable String builderClassName
+    ) {
+        super(project);
 
-        setTitle("Select Builder Fields");
-        builderFields = new CollectionListModel<>(psiClass.getAllFields());
-        JBList<PsiField> items = new JBList<>(builderFields);
-        items.setCellRenderer(new DefaultPsiElementCellRenderer());
+        setTitle(title);
+        this.builderClassName = builderClassName;
+        builderFields = new CollectionListModel<>(fields);
+        JBList<FieldDescriptor> items = new JBList<>(builderFields);
+        items.setCellRenderer(new FieldDescriptorCellRenderer());
         ToolbarDecorator toolbarDecorator = ToolbarDecorator.createDecorator(items);
         JPanel panel = toolbarDecorator.createPanel();
-        builderComponent = LabeledComponent.create(panel, "Fields to include in builder");
+        builderComponent = LabeledComponent.create(panel, fieldsTitle);
+        final boolean showBuilderOptions = builderClassName != null;
+        reusableCheckBox = showBuilderOptions ? new JBCheckBox(REUSABLE_TITLE) : null;
+        valueClassCheckBox = showBuilderOptions ? new JBCheckBox(VALUE_CLASS_TITLE) : null;
+        builderService = showBuilderOptions ? BuilderService.getInstance(project) : null;
+        previewField = showBuilderOptions ? new EditorTextField(
+                EditorFactory.getInstance().createDocument(""), project, JavaFileType.INSTANCE, true, false
+        ) : null;
+        previewAlarm = showBuilderOptions ? new Alarm(Alarm.ThreadToUse.POOLED_THREAD, getDisposable()) : null;
 
         init();
+        if (showBuilderOptions) {
+            listenForPreviewChanges();
+            schedulePreview();
+        }
     }
 
     @Nullable
     @Override
     protected JComponent createCenterPanel() {
-        return builderComponent;
+        if (reusableCheckBox == null || valueClassCheckBox == null || previewField == null) {
+            return builderComponent;
+        }
+
+        final JPanel optionsPanel = new JPanel(new GridLayout(2, 1, 0, 0));
+        optionsPanel.add(reusableCheckBox);
+        optionsPanel.add(valueClassCheckBox);
+        final JPanel fieldsPanel = new JPanel(new BorderLayout());
+        fieldsPanel.add(builderComponent, BorderLayout.CENTER);
+        fieldsPanel.add(optionsPanel, BorderLayout.SOUTH);
+
+        final LabeledComponent<EditorTextField> previewComponent = LabeledComponent.create(
+                previewField, PREVIEW_TITLE
+        );
+        previewComponent.setPreferredSize(JBUI.size(480, 360));
+        final JBSplitter splitter = new JBSplitter(false, 0.4f);
+        splitter.setFirstComponent(fieldsPanel);
+        splitter.setSecondComponent(previewComponent);
+        return splitter;
     }
 
-    public List<PsiField> getFields() {
+    public List<FieldDescriptor> getFields() {
         return builderFields.getItems();
     }
+
+    public BuilderOptions getOptions() {
+        return new BuilderOptions(
+                reusableCheckBox != null && reusableCheckBox.isSelected(),
+                valueClassCheckBox != null && valueClassCheckBox.isSelected()
+        );
+    }
+
+    private void listenForPreviewChanges() {
+        builderFields.addListDataListener(new ListDataListener() {
+            @Override
+            public void intervalAdded(ListDataEvent listDataEvent) {
+                schedulePreview();
+            }
+
+            @Override
+            public void intervalRemoved(ListDataEvent listDataEvent) {
+                schedulePreview();
+            }
+
+            @Override
+            public void contentsChanged(ListDataEvent listDataEvent) {
+                schedulePreview();
+            }
+        });
+        reusableCheckBox.addItemListener(itemEvent -> schedulePreview());
+        valueClassCheckBox.addItemListener(itemEvent -> schedulePreview());
+    }
+
+    private void schedulePreview() {
+        final int generation = previewGeneration.incrementAndGet();
+        final List<FieldDescriptor> fields = new ArrayList<>(builderFields.getItems());
+        final BuilderOptions options = getOptions();
+        previewAlarm.cancelAllRequests();
+        previewAlarm.addRequest(() -> {
+            if (generation != previewGeneration.get()) {
+                return;
+            }
+
+            final String previewText = StringUtils.indentBlocks(
+                    builderService.renderBuilderMembers(builderClassName, fields, options)
+            );
+            ApplicationManager.getApplication().invokeLater(
+                    () -> {
+                        if (generation == previewGeneration.get()) {
+                            previewField.setText(previewText);
+                        }
+                    },
+                    ModalityState.stateForComponent(previewField)
+            );
+        }, PREVIEW_DELAY_MS);
+    }
 }
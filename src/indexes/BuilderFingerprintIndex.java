@@ -0,0 +1,165 @@
+package indexes;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.KeyDescriptor;
+import models.BuilderFingerprint;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import utils.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+import java.util.regex.Pattern;
+
+public class BuilderFingerprintIndex extends FileBasedIndexExtension<String, BuilderFingerprint> {
+
+    public static final ID<String, BuilderFingerprint> NAME = ID.create("navitel.builder.fingerprint");
+
+    private static final String BUILDER = "Builder";
+    private static final String SETTER_NAME_PREFIX = "set";
+    private static final Pattern QUALIFIER_PATTERN = Pattern.compile("\\b[a-z_][\\w]*\\.");
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+    @Nullable
+    public static BuilderFingerprint findFingerprint(@NotNull PsiClass psiClass) {
+        final String qualifiedName = psiClass.getQualifiedName();
+        final PsiFile file = psiClass.getContainingFile();
+        final VirtualFile virtualFile = file != null ? file.getVirtualFile() : null;
+        if (qualifiedName == null || virtualFile == null) {
+            return null;
+        }
+
+        final Project project = psiClass.getProject();
+        final List<BuilderFingerprint> fingerprints = FileBasedIndex.getInstance().getValues(
+                NAME, qualifiedName, GlobalSearchScope.fileScope(project, virtualFile)
+        );
+
+        return fingerprints.isEmpty() ? null : fingerprints.get(0);
+    }
+
+    @NotNull
+    @Override
+    public ID<String, BuilderFingerprint> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, BuilderFingerprint, FileContent> getIndexer() {
+        return inputData -> {
+            final PsiFile psiFile = inputData.getPsiFile();
+            if (!(psiFile instanceof PsiJavaFile)) {
+                return Collections.emptyMap();
+            }
+
+            final Map<String, BuilderFingerprint> fingerprints = new HashMap<>();
+            for (PsiClass psiClass : ((PsiJavaFile) psiFile).getClasses()) {
+                collectFingerprints(psiClass, fingerprints);
+            }
+            return fingerprints;
+        };
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<BuilderFingerprint> getValueExternalizer() {
+        return new DataExternalizer<BuilderFingerprint>() {
+            @Override
+            public void save(@NotNull DataOutput out, BuilderFingerprint value) throws IOException {
+                out.writeInt(value.getUncoveredFields().size());
+                for (String field : value.getUncoveredFields()) {
+                    IOUtil.writeUTF(out, field);
+                }
+            }
+
+            @Override
+            public BuilderFingerprint read(@NotNull DataInput in) throws IOException {
+                final int uncoveredCount = in.readInt();
+                final List<String> uncoveredFields = new ArrayList<>(uncoveredCount);
+                for (int i = 0; i < uncoveredCount; i++) {
+                    uncoveredFields.add(IOUtil.readUTF(in));
+                }
+                return new BuilderFingerprint(uncoveredFields);
+            }
+        };
+    }
+
+    @Override
+    public int getVersion() {
+        return 2;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    private static void collectFingerprints(
+            @NotNull PsiClass psiClass, @NotNull Map<String, BuilderFingerprint> fingerprints
+    ) {
+        final PsiClass builderClass = psiClass.findInnerClassByName(BUILDER, false);
+        final String qualifiedName = psiClass.getQualifiedName();
+        if (builderClass != null && qualifiedName != null) {
+            fingerprints.put(qualifiedName, createFingerprint(psiClass, builderClass));
+        }
+        for (PsiClass innerClass : psiClass.getInnerClasses()) {
+            collectFingerprints(innerClass, fingerprints);
+        }
+    }
+
+    private static BuilderFingerprint createFingerprint(@NotNull PsiClass targetClass, @NotNull PsiClass builderClass) {
+        final Set<String> setterSignatures = new HashSet<>();
+        for (PsiMethod method : builderClass.getMethods()) {
+            final PsiParameter[] parameters = method.getParameterList().getParameters();
+            final PsiTypeElement typeElement = parameters.length == 1 ? parameters[0].getTypeElement() : null;
+            if (method.getName().startsWith(SETTER_NAME_PREFIX) && typeElement != null) {
+                setterSignatures.add(createSignature(method.getName(), typeElement));
+            }
+        }
+
+        final List<String> uncoveredFields = new ArrayList<>();
+        for (PsiField field : targetClass.getFields()) {
+            final PsiTypeElement typeElement = field.getTypeElement();
+            if (typeElement == null
+                    || field.hasModifierProperty(PsiModifier.STATIC)
+                    || field.hasModifierProperty(PsiModifier.TRANSIENT)) {
+                continue;
+            }
+
+            final String setterName = SETTER_NAME_PREFIX + StringUtils.capitalize(field.getName());
+            if (!setterSignatures.contains(createSignature(setterName, typeElement))) {
+                uncoveredFields.add(field.getName());
+            }
+        }
+
+        return new BuilderFingerprint(uncoveredFields);
+    }
+
+    private static String createSignature(@NotNull String name, @NotNull PsiTypeElement typeElement) {
+        final String typeText = WHITESPACE_PATTERN.matcher(typeElement.getText()).replaceAll("");
+
+        return name + ":" + QUALIFIER_PATTERN.matcher(typeText).replaceAll("");
+    }
+}
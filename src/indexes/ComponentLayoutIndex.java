@@ -0,0 +1,111 @@
+package indexes;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.KeyDescriptor;
+import models.ComponentEntry;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+
+public class ComponentLayoutIndex extends FileBasedIndexExtension<String, List<String>> {
+
+    public static final ID<String, List<String>> NAME = ID.create("navitel.component.layout");
+
+    private static final int VERSION = 2;
+
+    @NotNull
+    public static List<String> findComponentNames(@NotNull Project project, @NotNull String layoutName) {
+        final List<String> qualifiedNames = new ArrayList<>();
+        for (List<String> fileNames : FileBasedIndex.getInstance().getValues(
+                NAME, layoutName, GlobalSearchScope.projectScope(project)
+        )) {
+            qualifiedNames.addAll(fileNames);
+        }
+
+        return qualifiedNames;
+    }
+
+    @NotNull
+    @Override
+    public ID<String, List<String>> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, List<String>, FileContent> getIndexer() {
+        return inputData -> {
+            final PsiFile psiFile = inputData.getPsiFile();
+            if (!(psiFile instanceof PsiJavaFile)) {
+                return Collections.emptyMap();
+            }
+
+            final Map<String, List<String>> layoutComponents = new HashMap<>();
+            for (ComponentEntry component : ComponentRegistryIndex.collectComponents((PsiJavaFile) psiFile).values()) {
+                final String layoutName = component.getLayoutName();
+                if (layoutName != null) {
+                    layoutComponents.computeIfAbsent(layoutName, name -> new ArrayList<>())
+                            .add(component.getQualifiedName());
+                }
+            }
+            return layoutComponents;
+        };
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<List<String>> getValueExternalizer() {
+        return new DataExternalizer<List<String>>() {
+            @Override
+            public void save(@NotNull DataOutput out, List<String> value) throws IOException {
+                out.writeInt(value.size());
+                for (String qualifiedName : value) {
+                    IOUtil.writeUTF(out, qualifiedName);
+                }
+            }
+
+            @Override
+            public List<String> read(@NotNull DataInput in) throws IOException {
+                final int count = in.readInt();
+                final List<String> qualifiedNames = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    qualifiedNames.add(IOUtil.readUTF(in));
+                }
+                return qualifiedNames;
+            }
+        };
+    }
+
+    @Override
+    public int getVersion() {
+        return VERSION + ComponentRegistryIndex.VERSION;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+}
@@ -0,0 +1,299 @@
+package indexes;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.KeyDescriptor;
+import models.ComponentEntry;
+import models.ComponentKind;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import utils.StringUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+
+public class ComponentRegistryIndex extends FileBasedIndexExtension<String, ComponentEntry> {
+
+    public static final ID<String, ComponentEntry> NAME = ID.create("navitel.component.registry");
+
+    static final int VERSION = 2;
+
+    private static final String ACTIVITY_POSTFIX = "Activity";
+    private static final String FRAGMENT_POSTFIX = "Fragment";
+    private static final String DIALOG_FRAGMENT_POSTFIX = "DialogFragment";
+    private static final String BINDING_POSTFIX = "Binding";
+    private static final String LAYOUT_QUALIFIER = "R.layout";
+    private static final String TAG_POSTFIX = "_TAG";
+    private static final String OVERRIDE = "Override";
+    private static final String LIFECYCLE_PREFIX = "on";
+
+    @Nullable
+    public static ComponentEntry findComponent(@NotNull PsiClass psiClass) {
+        final String qualifiedName = psiClass.getQualifiedName();
+        final PsiFile file = psiClass.getContainingFile();
+        final VirtualFile virtualFile = file != null ? file.getVirtualFile() : null;
+        if (qualifiedName == null || virtualFile == null) {
+            return null;
+        }
+
+        final List<ComponentEntry> components = FileBasedIndex.getInstance().getValues(
+                NAME, qualifiedName, GlobalSearchScope.fileScope(psiClass.getProject(), virtualFile)
+        );
+
+        return components.isEmpty() ? null : components.get(0);
+    }
+
+    @NotNull
+    public static List<ComponentEntry> getComponents(@NotNull Project project) {
+        final FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+        final GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+        final List<String> qualifiedNames = new ArrayList<>();
+        fileBasedIndex.processAllKeys(NAME, qualifiedNames::add, scope, null);
+
+        final List<ComponentEntry> components = new ArrayList<>();
+        for (String qualifiedName : qualifiedNames) {
+            components.addAll(fileBasedIndex.getValues(NAME, qualifiedName, scope));
+        }
+        components.sort(
+                Comparator.comparing(ComponentEntry::getKind).thenComparing(ComponentEntry::getQualifiedName)
+        );
+
+        return components;
+    }
+
+    @NotNull
+    public static List<ComponentEntry> findComponentsByLayout(@NotNull Project project, @NotNull String layoutName) {
+        final FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+        final GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+        final List<ComponentEntry> components = new ArrayList<>();
+        for (String qualifiedName : ComponentLayoutIndex.findComponentNames(project, layoutName)) {
+            for (ComponentEntry component : fileBasedIndex.getValues(NAME, qualifiedName, scope)) {
+                if (layoutName.equals(component.getLayoutName())) {
+                    components.add(component);
+                }
+            }
+        }
+
+        return components;
+    }
+
+    @NotNull
+    static Map<String, ComponentEntry> collectComponents(@NotNull PsiJavaFile javaFile) {
+        final Map<String, ComponentEntry> components = new HashMap<>();
+        for (PsiClass psiClass : javaFile.getClasses()) {
+            collectComponents(psiClass, components);
+        }
+
+        return components;
+    }
+
+    @NotNull
+    @Override
+    public ID<String, ComponentEntry> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, ComponentEntry, FileContent> getIndexer() {
+        return inputData -> {
+            final PsiFile psiFile = inputData.getPsiFile();
+            if (!(psiFile instanceof PsiJavaFile)) {
+                return Collections.emptyMap();
+            }
+
+            return collectComponents((PsiJavaFile) psiFile);
+        };
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<ComponentEntry> getValueExternalizer() {
+        return new DataExternalizer<ComponentEntry>() {
+            @Override
+            public void save(@NotNull DataOutput out, ComponentEntry value) throws IOException {
+                IOUtil.writeUTF(out, value.getKind().name());
+                IOUtil.writeUTF(out, value.getQualifiedName());
+                writeNullableString(out, value.getLayoutName());
+                writeNullableString(out, value.getDialogTag());
+                out.writeInt(value.getLifecycleMethods().size());
+                for (String method : value.getLifecycleMethods()) {
+                    IOUtil.writeUTF(out, method);
+                }
+            }
+
+            @Override
+            public ComponentEntry read(@NotNull DataInput in) throws IOException {
+                final ComponentKind kind = ComponentKind.valueOf(IOUtil.readUTF(in));
+                final String qualifiedName = IOUtil.readUTF(in);
+                final String layoutName = readNullableString(in);
+                final String dialogTag = readNullableString(in);
+                final int methodCount = in.readInt();
+                final List<String> lifecycleMethods = new ArrayList<>(methodCount);
+                for (int i = 0; i < methodCount; i++) {
+                    lifecycleMethods.add(IOUtil.readUTF(in));
+                }
+                return new ComponentEntry(kind, qualifiedName, layoutName, dialogTag, lifecycleMethods);
+            }
+        };
+    }
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    private static void collectComponents(@NotNull PsiClass psiClass, @NotNull Map<String, ComponentEntry> components) {
+        final String qualifiedName = psiClass.getQualifiedName();
+        final ComponentKind kind = findComponentKind(psiClass);
+        if (qualifiedName != null && kind != null && !psiClass.hasModifierProperty(PsiModifier.ABSTRACT)) {
+            components.put(qualifiedName, new ComponentEntry(
+                    kind,
+                    qualifiedName,
+                    findLayoutName(psiClass),
+                    kind == ComponentKind.DIALOG_FRAGMENT ? findDialogTag(psiClass) : null,
+                    findLifecycleMethods(psiClass)
+            ));
+        }
+        for (PsiClass innerClass : psiClass.getInnerClasses()) {
+            collectComponents(innerClass, components);
+        }
+    }
+
+    @Nullable
+    private static ComponentKind findComponentKind(@NotNull PsiClass psiClass) {
+        final PsiReferenceList extendsList = psiClass.getExtendsList();
+        if (extendsList == null) {
+            return null;
+        }
+
+        for (PsiJavaCodeReferenceElement reference : extendsList.getReferenceElements()) {
+            final String superName = reference.getReferenceName();
+            if (superName == null) {
+                continue;
+            }
+            if (superName.endsWith(DIALOG_FRAGMENT_POSTFIX)) {
+                return ComponentKind.DIALOG_FRAGMENT;
+            }
+            if (superName.endsWith(FRAGMENT_POSTFIX)) {
+                return ComponentKind.FRAGMENT;
+            }
+            if (superName.endsWith(ACTIVITY_POSTFIX)) {
+                return ComponentKind.ACTIVITY;
+            }
+        }
+
+        return null;
+    }
+
+    @Nullable
+    private static String findLayoutName(@NotNull PsiClass psiClass) {
+        final Collection<PsiReferenceExpression> references = PsiTreeUtil.findChildrenOfType(
+                psiClass, PsiReferenceExpression.class
+        );
+        for (PsiReferenceExpression reference : references) {
+            final PsiExpression qualifier = reference.getQualifierExpression();
+            final String qualifierText = qualifier != null ? qualifier.getText() : null;
+            if (qualifierText != null
+                    && (qualifierText.equals(LAYOUT_QUALIFIER) || qualifierText.endsWith("." + LAYOUT_QUALIFIER))) {
+                return reference.getReferenceName();
+            }
+        }
+
+        for (PsiField field : psiClass.getFields()) {
+            final PsiTypeElement typeElement = field.getTypeElement();
+            final String typeText = typeElement != null ? typeElement.getText() : null;
+            if (typeText != null && typeText.endsWith(BINDING_POSTFIX) && !typeText.endsWith("." + BINDING_POSTFIX)) {
+                final String bindingName = typeText.substring(typeText.lastIndexOf('.') + 1);
+                if (bindingName.length() > BINDING_POSTFIX.length()) {
+                    return StringUtils.convertCamelToSnake(
+                            bindingName.substring(0, bindingName.length() - BINDING_POSTFIX.length()), null, null, false
+                    );
+                }
+            }
+        }
+
+        return null;
+    }
+
+    @Nullable
+    private static String findDialogTag(@NotNull PsiClass psiClass) {
+        for (PsiField field : psiClass.getFields()) {
+            final PsiExpression initializer = field.getInitializer();
+            if (field.getName().endsWith(TAG_POSTFIX)
+                    && field.hasModifierProperty(PsiModifier.STATIC)
+                    && initializer instanceof PsiLiteralExpression
+                    && ((PsiLiteralExpression) initializer).getValue() instanceof String) {
+                return (String) ((PsiLiteralExpression) initializer).getValue();
+            }
+        }
+
+        return null;
+    }
+
+    private static List<String> findLifecycleMethods(@NotNull PsiClass psiClass) {
+        final List<String> lifecycleMethods = new ArrayList<>();
+        for (PsiMethod method : psiClass.getMethods()) {
+            final String name = method.getName();
+            if (name.length() > LIFECYCLE_PREFIX.length()
+                    && name.startsWith(LIFECYCLE_PREFIX)
+                    && Character.isUpperCase(name.charAt(LIFECYCLE_PREFIX.length()))
+                    && isOverride(method)
+                    && !lifecycleMethods.contains(name)) {
+                lifecycleMethods.add(name);
+            }
+        }
+
+        return lifecycleMethods;
+    }
+
+    private static boolean isOverride(@NotNull PsiMethod method) {
+        for (PsiAnnotation annotation : method.getModifierList().getAnnotations()) {
+            final PsiJavaCodeReferenceElement reference = annotation.getNameReferenceElement();
+            if (reference != null && OVERRIDE.equals(reference.getReferenceName())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static void writeNullableString(@NotNull DataOutput out, @Nullable String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            IOUtil.writeUTF(out, value);
+        }
+    }
+
+    @Nullable
+    private static String readNullableString(@NotNull DataInput in) throws IOException {
+        return in.readBoolean() ? IOUtil.readUTF(in) : null;
+    }
+}
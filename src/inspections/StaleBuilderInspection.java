@@ -0,0 +1,103 @@
+package inspections;
+
+import com.intellij.codeInspection.*;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiIdentifier;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.IncorrectOperationException;
+import indexes.BuilderFingerprintIndex;
+import models.BuilderFingerprint;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import services.BuilderService;
+
+public class StaleBuilderInspection extends AbstractBaseJavaLocalInspectionTool {
+
+    private static final String BUILDER = "Builder";
+    private static final String STALE_BUILDER_MESSAGE = "Builder is missing setters for fields: ";
+
+    @Nullable
+    @Override
+    public ProblemDescriptor[] checkClass(
+            @NotNull PsiClass psiClass, @NotNull InspectionManager manager, boolean isOnTheFly
+    ) {
+        final PsiClass builderClass = psiClass.findInnerClassByName(BUILDER, false);
+        final PsiIdentifier builderIdentifier = builderClass != null ? builderClass.getNameIdentifier() : null;
+        if (builderIdentifier == null) {
+            return null;
+        }
+
+        final BuilderFingerprint fingerprint = BuilderFingerprintIndex.findFingerprint(psiClass);
+        if (fingerprint == null || !fingerprint.isStale()) {
+            return null;
+        }
+
+        return new ProblemDescriptor[]{
+                manager.createProblemDescriptor(
+                        builderIdentifier,
+                        STALE_BUILDER_MESSAGE + String.join(", ", fingerprint.getUncoveredFields()),
+                        new RegenerateBuilderFix(),
+                        ProblemHighlightType.GENERIC_ERROR_OR_WARNING,
+                        isOnTheFly
+                )
+        };
+    }
+
+    private static class RegenerateBuilderFix implements LocalQuickFix {
+
+        private static final String FIX_NAME = "Regenerate Builder";
+        private static final String ANALYZING_FIELDS = "Analyzing Builder Fields";
+
+        @NotNull
+        @Override
+        public String getFamilyName() {
+            return FIX_NAME;
+        }
+
+        @Override
+        public boolean startInWriteAction() {
+            return false;
+        }
+
+        @Override
+        public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+            final PsiElement builderIdentifier = descriptor.getPsiElement();
+            final PsiClass builderClass = PsiTreeUtil.getParentOfType(builderIdentifier, PsiClass.class);
+            final PsiClass targetClass = builderClass != null ? builderClass.getContainingClass() : null;
+            if (targetClass == null) {
+                return;
+            }
+
+            final BuilderService builderService = BuilderService.getInstance(project);
+            final BuilderService.BuilderCandidate candidate;
+            try {
+                candidate = ProgressManager.getInstance().runProcessWithProgressSynchronously(
+                        () -> ReadAction.compute(() -> builderService.prepareRegeneration(targetClass)),
+                        ANALYZING_FIELDS,
+                        true,
+                        project
+                );
+            } catch (ProcessCanceledException exception) {
+                return;
+            } catch (IncorrectOperationException exception) {
+                Messages.showErrorDialog(project, exception.getLocalizedMessage(), FIX_NAME);
+                return;
+            }
+
+            WriteCommandAction.runWriteCommandAction(
+                    project,
+                    FIX_NAME,
+                    null,
+                    () -> builderService.regenerateBuilder(candidate),
+                    targetClass.getContainingFile()
+            );
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package models;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+
+public final class BuilderFingerprint {
+
+    private final List<String> uncoveredFields;
+
+    public BuilderFingerprint(@NotNull List<String> uncoveredFields) {
+        this.uncoveredFields = Collections.unmodifiableList(uncoveredFields);
+    }
+
+    @NotNull
+    public List<String> getUncoveredFields() {
+        return uncoveredFields;
+    }
+
+    public boolean isStale() {
+        return !uncoveredFields.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (object == null || getClass() != object.getClass()) {
+            return false;
+        }
+
+        final BuilderFingerprint that = (BuilderFingerprint) object;
+        return uncoveredFields.equals(that.uncoveredFields);
+    }
+
+    @Override
+    public int hashCode() {
+        return uncoveredFields.hashCode();
+    }
+}
@@ -0,0 +1,22 @@
+package models;
+
+public final class BuilderOptions {
+
+    public static final BuilderOptions DEFAULT = new BuilderOptions(false, false);
+
+    private final boolean reusable;
+    private final boolean valueClass;
+
+    public BuilderOptions(boolean reusable, boolean valueClass) {
+        this.reusable = reusable;
+        this.valueClass = valueClass;
+    }
+
+    public boolean isReusable() {
+        return reusable;
+    }
+
+    public boolean isValueClass() {
+        return valueClass;
+    }
+}
@@ -0,0 +1,48 @@
+package models;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public final class BundleAccessor {
+
+    private final String putMethodName;
+    private final String getMethodName;
+    private final String castTypeText;
+    private final boolean supportsDefaultValue;
+
+    public BundleAccessor(
+            @NotNull String putMethodName,
+            @NotNull String getMethodName,
+            @Nullable String castTypeText,
+            boolean supportsDefaultValue
+    ) {
+        this.putMethodName = putMethodName;
+        this.getMethodName = getMethodName;
+        this.castTypeText = castTypeText;
+        this.supportsDefaultValue = supportsDefaultValue;
+    }
+
+    @NotNull
+    public String getPutMethodName() {
+        return putMethodName;
+    }
+
+    @NotNull
+    public String getGetMethodName() {
+        return getMethodName;
+    }
+
+    @Nullable
+    public String getCastTypeText() {
+        return castTypeText;
+    }
+
+    public boolean supportsDefaultValue() {
+        return supportsDefaultValue;
+    }
+
+    @NotNull
+    public BundleAccessor withCast(@NotNull String castTypeText) {
+        return new BundleAccessor(putMethodName, getMethodName, castTypeText, supportsDefaultValue);
+    }
+}
@@ -0,0 +1,83 @@
+package models;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+public final class ComponentEntry {
+
+    private final ComponentKind kind;
+    private final String qualifiedName;
+    private final String layoutName;
+    private final String dialogTag;
+    private final List<String> lifecycleMethods;
+
+    public ComponentEntry(
+            @NotNull ComponentKind kind,
+            @NotNull String qualifiedName,
+            @Nullable String layoutName,
+            @Nullable String dialogTag,
+            @NotNull List<String> lifecycleMethods
+    ) {
+        this.kind = kind;
+        this.qualifiedName = qualifiedName;
+        this.layoutName = layoutName;
+        this.dialogTag = dialogTag;
+        this.lifecycleMethods = Collections.unmodifiableList(lifecycleMethods);
+    }
+
+    @NotNull
+    public ComponentKind getKind() {
+        return kind;
+    }
+
+    @NotNull
+    public String getQualifiedName() {
+        return qualifiedName;
+    }
+
+    @NotNull
+    public String getName() {
+        return qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+    }
+
+    @Nullable
+    public String getLayoutName() {
+        return layoutName;
+    }
+
+    @Nullable
+    public String getDialogTag() {
+        return dialogTag;
+    }
+
+    @NotNull
+    public List<String> getLifecycleMethods() {
+        return lifecycleMethods;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (object == null || getClass() != object.getClass()) {
+            return false;
+        }
+
+        final ComponentEntry that = (ComponentEntry) object;
+        return kind == that.kind
+                && qualifiedName.equals(that.qualifiedName)
+                && Objects.equals(layoutName, that.layoutName)
+                && Objects.equals(dialogTag, that.dialogTag)
+                && lifecycleMethods.equals(that.lifecycleMethods);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, qualifiedName, layoutName, dialogTag, lifecycleMethods);
+    }
+}
@@ -0,0 +1,28 @@
+package models;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public enum ComponentKind {
+    ACTIVITY("activity"),
+    FRAGMENT("fragment"),
+    DIALOG_FRAGMENT("dialogfragment");
+
+    private final String specName;
+
+    ComponentKind(@NotNull String specName) {
+        this.specName = specName;
+    }
+
+    @Nullable
+    public static ComponentKind fromSpecName(@NotNull String name) {
+        final String specName = name.replace("_", "").trim();
+        for (ComponentKind kind : values()) {
+            if (kind.specName.equalsIgnoreCase(specName)) {
+                return kind;
+            }
+        }
+
+        return null;
+    }
+}
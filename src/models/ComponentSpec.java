@@ -0,0 +1,48 @@
+package models;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class ComponentSpec {
+
+    private final ComponentKind kind;
+    private final String name;
+    private final String packageName;
+    private final List<String> methodNames;
+
+    public ComponentSpec(
+            @NotNull ComponentKind kind,
+            @NotNull String name,
+            @Nullable String packageName,
+            @NotNull List<String> methodNames
+    ) {
+        this.kind = kind;
+        this.name = name;
+        this.packageName = packageName;
+        this.methodNames = Collections.unmodifiableList(new ArrayList<>(methodNames));
+    }
+
+    @NotNull
+    public ComponentKind getKind() {
+        return kind;
+    }
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    @Nullable
+    public String getPackageName() {
+        return packageName;
+    }
+
+    @NotNull
+    public List<String> getMethodNames() {
+        return methodNames;
+    }
+}
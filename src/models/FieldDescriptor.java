@@ -0,0 +1,122 @@
+package models;
+
+import com.intellij.psi.*;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public final class FieldDescriptor {
+
+    private static final String[] FIELD_MODIFIERS = {
+            PsiModifier.PUBLIC, PsiModifier.PROTECTED, PsiModifier.PRIVATE,
+            PsiModifier.STATIC, PsiModifier.FINAL, PsiModifier.TRANSIENT, PsiModifier.VOLATILE
+    };
+
+    private final String name;
+    private final String typeText;
+    private final String presentableTypeText;
+    private final Set<String> modifiers;
+    private final String ownerName;
+    private final String defaultValueText;
+
+    public FieldDescriptor(
+            @NotNull String name,
+            @NotNull String typeText,
+            @NotNull String presentableTypeText,
+            @NotNull Set<String> modifiers,
+            @Nullable String ownerName,
+            @Nullable String defaultValueText
+    ) {
+        this.name = name;
+        this.typeText = typeText;
+        this.presentableTypeText = presentableTypeText;
+        this.modifiers = Collections.unmodifiableSet(new LinkedHashSet<>(modifiers));
+        this.ownerName = ownerName;
+        this.defaultValueText = defaultValueText;
+    }
+
+    public static FieldDescriptor create(@NotNull PsiField field) {
+        final Set<String> modifiers = new LinkedHashSet<>();
+        final PsiModifierList modifierList = field.getModifierList();
+        if (modifierList != null) {
+            for (String modifier : FIELD_MODIFIERS) {
+                if (modifierList.hasModifierProperty(modifier)) {
+                    modifiers.add(modifier);
+                }
+            }
+        }
+        final PsiClass owner = field.getContainingClass();
+        final PsiExpression initializer = field.getInitializer();
+
+        return new FieldDescriptor(
+                field.getName(),
+                field.getType().getCanonicalText(),
+                field.getType().getPresentableText(),
+                modifiers,
+                owner != null ? owner.getName() : null,
+                initializer != null && isMovableInitializer(initializer) ? initializer.getText() : null
+        );
+    }
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    @NotNull
+    public String getTypeText() {
+        return typeText;
+    }
+
+    @NotNull
+    public String getPresentableTypeText() {
+        return presentableTypeText;
+    }
+
+    @NotNull
+    public Set<String> getModifiers() {
+        return modifiers;
+    }
+
+    public boolean hasModifier(@NotNull String modifier) {
+        return modifiers.contains(modifier);
+    }
+
+    @Nullable
+    public String getOwnerName() {
+        return ownerName;
+    }
+
+    @Nullable
+    public String getDefaultValueText() {
+        return defaultValueText;
+    }
+
+    private static boolean isMovableInitializer(@NotNull PsiExpression initializer) {
+        final PsiExpression selfReference = PsiTreeUtil.findChildOfAnyType(
+                initializer, false, PsiThisExpression.class, PsiSuperExpression.class
+        );
+        if (selfReference != null) {
+            return false;
+        }
+
+        final Collection<PsiReferenceExpression> references = PsiTreeUtil.collectElementsOfType(
+                initializer, PsiReferenceExpression.class
+        );
+        for (PsiReferenceExpression reference : references) {
+            final PsiElement target = reference.resolve();
+            if (target instanceof PsiMember
+                    && !(target instanceof PsiClass)
+                    && !((PsiMember) target).hasModifierProperty(PsiModifier.STATIC)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,49 @@
+package models;
+
+import org.jetbrains.annotations.NotNull;
+import utils.SourceTemplate;
+
+public final class ParcelAccessor {
+
+    public static final ParcelAccessor BYTE = new ParcelAccessor("dest.writeByte(${NAME})", "in.readByte()");
+    public static final ParcelAccessor SHORT = new ParcelAccessor("dest.writeInt(${NAME})", "(short) in.readInt()");
+    public static final ParcelAccessor CHAR = new ParcelAccessor("dest.writeInt(${NAME})", "(char) in.readInt()");
+    public static final ParcelAccessor INT = new ParcelAccessor("dest.writeInt(${NAME})", "in.readInt()");
+    public static final ParcelAccessor LONG = new ParcelAccessor("dest.writeLong(${NAME})", "in.readLong()");
+    public static final ParcelAccessor FLOAT = new ParcelAccessor("dest.writeFloat(${NAME})", "in.readFloat()");
+    public static final ParcelAccessor DOUBLE = new ParcelAccessor("dest.writeDouble(${NAME})", "in.readDouble()");
+    public static final ParcelAccessor BOOLEAN = new ParcelAccessor(
+            "dest.writeByte((byte) (${NAME} ? 1 : 0))", "in.readByte() != 0"
+    );
+    public static final ParcelAccessor STRING = new ParcelAccessor("dest.writeString(${NAME})", "in.readString()");
+    public static final ParcelAccessor PARCELABLE = new ParcelAccessor(
+            "dest.writeParcelable(${NAME}, flags)", "in.readParcelable(${RAW_TYPE}.class.getClassLoader())"
+    );
+    public static final ParcelAccessor STRING_LIST = new ParcelAccessor(
+            "dest.writeStringList(${NAME})", "in.createStringArrayList()"
+    );
+    public static final ParcelAccessor TYPED_LIST = new ParcelAccessor(
+            "dest.writeTypedList(${NAME})", "in.createTypedArrayList(${ITEM_TYPE}.CREATOR)"
+    );
+    public static final ParcelAccessor SERIALIZABLE = new ParcelAccessor(
+            "dest.writeSerializable(${NAME})", "(${TYPE}) in.readSerializable()"
+    );
+
+    private final SourceTemplate writeTemplate;
+    private final SourceTemplate readTemplate;
+
+    private ParcelAccessor(@NotNull String writeTemplate, @NotNull String readTemplate) {
+        this.writeTemplate = SourceTemplate.compile(writeTemplate);
+        this.readTemplate = SourceTemplate.compile(readTemplate);
+    }
+
+    @NotNull
+    public SourceTemplate getWriteTemplate() {
+        return writeTemplate;
+    }
+
+    @NotNull
+    public SourceTemplate getReadTemplate() {
+        return readTemplate;
+    }
+}
@@ -0,0 +1,61 @@
+package models;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import utils.SourceTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public final class ParcelField {
+
+    private static final String NAME_PLACEHOLDER = "NAME";
+    private static final String TYPE_PLACEHOLDER = "TYPE";
+    private static final String RAW_TYPE_PLACEHOLDER = "RAW_TYPE";
+    private static final String ITEM_TYPE_PLACEHOLDER = "ITEM_TYPE";
+    private static final String WRITE_VALUE_PLACEHOLDER = "WRITE_VALUE";
+    private static final String READ_VALUE_PLACEHOLDER = "READ_VALUE";
+
+    private static final SourceTemplate VALUE_WRITE_TEMPLATE = SourceTemplate.compile("${WRITE_VALUE};\n");
+    private static final SourceTemplate VALUE_READ_TEMPLATE = SourceTemplate.compile(
+            "this.${NAME} = ${READ_VALUE};\n"
+    );
+    private static final SourceTemplate NULLABLE_WRITE_TEMPLATE = SourceTemplate.compile(
+            "if (${NAME} == null) {\n"
+                    + "dest.writeByte((byte) 0);\n"
+                    + "} else {\n"
+                    + "dest.writeByte((byte) 1);\n"
+                    + "${WRITE_VALUE};\n"
+                    + "}\n"
+    );
+    private static final SourceTemplate NULLABLE_READ_TEMPLATE = SourceTemplate.compile(
+            "this.${NAME} = in.readByte() == 0 ? null : ${READ_VALUE};\n"
+    );
+
+    private final Map<String, String> values = new HashMap<>();
+    private final ParcelAccessor accessor;
+    private final boolean nullable;
+
+    public ParcelField(
+            @NotNull String name,
+            @NotNull String typeText,
+            @NotNull String rawTypeText,
+            @Nullable String itemTypeText,
+            @NotNull ParcelAccessor accessor,
+            boolean nullable
+    ) {
+        this.accessor = accessor;
+        this.nullable = nullable;
+        values.put(NAME_PLACEHOLDER, name);
+        values.put(TYPE_PLACEHOLDER, typeText);
+        values.put(RAW_TYPE_PLACEHOLDER, rawTypeText);
+        values.put(ITEM_TYPE_PLACEHOLDER, itemTypeText != null ? itemTypeText : "");
+    }
+
+    public void render(@NotNull StringBuilder writeStatements, @NotNull StringBuilder readStatements) {
+        values.put(WRITE_VALUE_PLACEHOLDER, accessor.getWriteTemplate().render(values));
+        values.put(READ_VALUE_PLACEHOLDER, accessor.getReadTemplate().render(values));
+        (nullable ? NULLABLE_WRITE_TEMPLATE : VALUE_WRITE_TEMPLATE).render(writeStatements, values);
+        (nullable ? NULLABLE_READ_TEMPLATE : VALUE_READ_TEMPLATE).render(readStatements, values);
+    }
+}
@@ -0,0 +1,93 @@
+package navigation;
+
+import com.intellij.navigation.GotoRelatedItem;
+import com.intellij.navigation.GotoRelatedProvider;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.xml.XmlFile;
+import com.intellij.psi.xml.XmlTag;
+import indexes.ComponentRegistryIndex;
+import models.ComponentEntry;
+import org.jetbrains.annotations.NotNull;
+import services.ManifestRegistry;
+import services.ResourceDirectoryIndex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class ComponentGotoRelatedProvider extends GotoRelatedProvider {
+
+    private static final String GROUP = "Navitel";
+
+    @NotNull
+    @Override
+    public List<? extends GotoRelatedItem> getItems(@NotNull PsiElement psiElement) {
+        final Project project = psiElement.getProject();
+        if (DumbService.isDumb(project)) {
+            return Collections.emptyList();
+        }
+
+        final PsiFile file = psiElement.getContainingFile();
+        final PsiClass componentClass = PsiTreeUtil.getParentOfType(psiElement, PsiClass.class, false);
+        if (componentClass != null) {
+            return findComponentItems(componentClass);
+        }
+        if (file instanceof XmlFile && file.getVirtualFile() != null) {
+            return findLayoutItems(project, (XmlFile) file);
+        }
+
+        return Collections.emptyList();
+    }
+
+    private List<GotoRelatedItem> findComponentItems(@NotNull PsiClass componentClass) {
+        final ComponentEntry component = ComponentRegistryIndex.findComponent(componentClass);
+        if (component == null) {
+            return Collections.emptyList();
+        }
+
+        final Project project = componentClass.getProject();
+        final List<GotoRelatedItem> items = new ArrayList<>();
+        final String layoutName = component.getLayoutName();
+        final PsiFile layoutFile = layoutName != null
+                ? ResourceDirectoryIndex.getInstance(project).findLayoutFile(componentClass, layoutName)
+                : null;
+        if (layoutFile != null) {
+            items.add(new GotoRelatedItem(layoutFile, GROUP));
+        }
+
+        final ManifestRegistry manifestRegistry = ManifestRegistry.getInstance(project);
+        final XmlFile manifest = manifestRegistry.findManifest(componentClass);
+        final XmlTag declaration = manifest != null
+                ? manifestRegistry.findDeclaration(manifest, component.getQualifiedName())
+                : null;
+        if (declaration != null) {
+            items.add(new GotoRelatedItem(declaration, GROUP));
+        }
+
+        return items;
+    }
+
+    private List<GotoRelatedItem> findLayoutItems(@NotNull Project project, @NotNull XmlFile layoutFile) {
+        final String layoutName = layoutFile.getVirtualFile().getNameWithoutExtension();
+        final ResourceDirectoryIndex resourceDirectoryIndex = ResourceDirectoryIndex.getInstance(project);
+        if (!layoutFile.equals(resourceDirectoryIndex.findLayoutFile(layoutFile, layoutName))) {
+            return Collections.emptyList();
+        }
+
+        final JavaPsiFacade javaPsiFacade = JavaPsiFacade.getInstance(project);
+        final GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+        final List<GotoRelatedItem> items = new ArrayList<>();
+        for (ComponentEntry component : ComponentRegistryIndex.findComponentsByLayout(project, layoutName)) {
+            final PsiClass componentClass = javaPsiFacade.findClass(component.getQualifiedName(), scope);
+            if (componentClass != null) {
+                items.add(new GotoRelatedItem(componentClass, GROUP));
+            }
+        }
+
+        return items;
+    }
+}
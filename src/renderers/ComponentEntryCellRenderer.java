@@ -0,0 +1,54 @@
+package renderers;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.ui.ColoredListCellRenderer;
+import com.intellij.ui.SimpleTextAttributes;
+import models.ComponentEntry;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import java.util.Collections;
+import java.util.Set;
+
+public class ComponentEntryCellRenderer extends ColoredListCellRenderer<ComponentEntry> {
+
+    private static final String NOT_DECLARED = "  not declared in manifest";
+
+    private Set<String> undeclaredComponents = Collections.emptySet();
+
+    public void setUndeclaredComponents(@NotNull Set<String> undeclaredComponents) {
+        this.undeclaredComponents = undeclaredComponents;
+    }
+
+    @Override
+    protected void customizeCellRenderer(
+            @NotNull JList<? extends ComponentEntry> list,
+            ComponentEntry component,
+            int index,
+            boolean selected,
+            boolean hasFocus
+    ) {
+        if (component == null) {
+            return;
+        }
+
+        setIcon(AllIcons.Nodes.Class);
+        append(component.getName());
+        append("  " + component.getKind().name().toLowerCase(), SimpleTextAttributes.GRAYED_ATTRIBUTES);
+        if (component.getLayoutName() != null) {
+            append("  @layout/" + component.getLayoutName(), SimpleTextAttributes.GRAYED_ATTRIBUTES);
+        }
+        if (component.getDialogTag() != null) {
+            append("  tag \"" + component.getDialogTag() + "\"", SimpleTextAttributes.GRAYED_ATTRIBUTES);
+        }
+        if (!component.getLifecycleMethods().isEmpty()) {
+            append(
+                    "  " + String.join(", ", component.getLifecycleMethods()),
+                    SimpleTextAttributes.GRAYED_ITALIC_ATTRIBUTES
+            );
+        }
+        if (undeclaredComponents.contains(component.getQualifiedName())) {
+            append(NOT_DECLARED, SimpleTextAttributes.ERROR_ATTRIBUTES);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package renderers;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.ui.ColoredListCellRenderer;
+import com.intellij.ui.SimpleTextAttributes;
+import models.FieldDescriptor;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+
+public class FieldDescriptorCellRenderer extends ColoredListCellRenderer<FieldDescriptor> {
+
+    @Override
+    protected void customizeCellRenderer(
+            @NotNull JList<? extends FieldDescriptor> list,
+            FieldDescriptor field,
+            int index,
+            boolean selected,
+            boolean hasFocus
+    ) {
+        if (field == null) {
+            return;
+        }
+
+        setIcon(AllIcons.Nodes.Field);
+        append(field.getName());
+        append(": " + field.getPresentableTypeText(), SimpleTextAttributes.GRAYED_ATTRIBUTES);
+        final String ownerName = field.getOwnerName();
+        if (ownerName != null) {
+            append("  " + ownerName, SimpleTextAttributes.GRAYED_ITALIC_ATTRIBUTES);
+        }
+    }
+}
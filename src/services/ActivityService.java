@@ -1,13 +1,9 @@
 package services;
 
+import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.*;
-import com.intellij.psi.search.FilenameIndex;
-import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.psi.xml.XmlFile;
-import com.intellij.psi.xml.XmlTag;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
@@ -16,10 +12,8 @@ import java.util.List;
 public class ActivityService extends AndroidService {
 
     private static final String ACTIVITY_TAG = "activity";
-    private static final String ANDROID_MANIFEST = "AndroidManifest.xml";
-    private static final String APPLICATION_TAG = "application";
-    private static final String NAME_ATTRIBUTE = "android:name";
     private static final String SET_CONTENT_VIEW = "setContentView";
+    private static final String GET_LAYOUT_INFLATER = "getLayoutInflater";
 
     protected static final String[] ACTIVITY_METHOD_NAMES = {
             ON_CREATE, ON_START, ON_RESUME,
@@ -27,18 +21,12 @@ public class ActivityService extends AndroidService {
             ON_PAUSE, ON_STOP, ON_DESTROY
     };
 
-    private static ActivityService instance;
-
-    private ActivityService(@NotNull Project project) {
+    public ActivityService(@NotNull Project project) {
         super(project, ANDROIDX_ACTIVITY);
     }
 
     public static ActivityService getInstance(@NotNull Project project) {
-        if (instance == null) {
-            instance = new ActivityService(project);
-        }
-
-        return instance;
+        return ServiceManager.getService(project, ActivityService.class);
     }
 
     @Override
@@ -46,15 +34,25 @@ public class ActivityService extends AndroidService {
         return ACTIVITY_METHOD_NAMES;
     }
 
+    @Override
+    protected String provideLayoutPrefix() {
+        return ACTIVITY_TAG;
+    }
+
+    @Override
+    protected boolean isDeclaredInManifest() {
+        return true;
+    }
+
     @Override
     protected List<PsiMethod> createComponentMethods(
-            @NotNull PsiClass componentClass, @NotNull List<PsiMethod> methods
+            @NotNull PsiClass componentClass, @NotNull List<PsiMethod> methods, boolean viewBinding
     ) {
         final List<PsiMethod> generatedMethods = new ArrayList<>();
         for (PsiMethod method : methods) {
             switch (method.getName()) {
                 case ON_CREATE:
-                    generatedMethods.add(overrideOnCreateMethod(method, componentClass.getName()));
+                    generatedMethods.add(overrideOnCreateMethod(method, componentClass, viewBinding));
                     break;
                 case ON_START:
                 case ON_RESUME:
@@ -71,42 +69,38 @@ public class ActivityService extends AndroidService {
 
     @Override
     protected void onCreateComponent(@Nonnull PsiClass componentClass) {
-        register(componentClass.getName());
+        ManifestRegistry.getInstance(project).register(componentClass, ACTIVITY_TAG);
     }
 
-    private PsiMethod overrideOnCreateMethod(@NotNull PsiMethod componentMethod, @Nullable String activityName) {
+    private PsiMethod overrideOnCreateMethod(
+            @NotNull PsiMethod componentMethod, @NotNull PsiClass componentClass, boolean viewBinding
+    ) {
         final PsiMethod onCreateMethod = psiUtils.overrideMethod(componentMethod);
+        final String activityName = componentClass.getName();
         if (activityName != null) {
-            createComponentLayout(activityName, ACTIVITY_TAG);
+            createComponentLayout(componentClass, activityName, ACTIVITY_TAG);
             final String activityLayoutName = createComponentLayoutName(activityName, ACTIVITY_TAG);
             final PsiCodeBlock codeBlock = onCreateMethod.getBody();
             if (codeBlock != null) {
-                final String setContentViewText = SET_CONTENT_VIEW + "(" + "R.layout." + activityLayoutName + ");";
-                final PsiStatement callSuperStatement = elementFactory.createStatementFromText(
-                        setContentViewText, onCreateMethod
-                );
-                codeBlock.add(callSuperStatement);
+                if (viewBinding) {
+                    final String bindingClassName = addViewBindingField(componentClass, activityLayoutName);
+                    codeBlock.add(psiUtils.createStatementFromText(
+                            BINDING + " = " + bindingClassName + ".inflate(" + GET_LAYOUT_INFLATER + "());",
+                            onCreateMethod
+                    ));
+                    codeBlock.add(psiUtils.createStatementFromText(
+                            SET_CONTENT_VIEW + "(" + BINDING + "." + GET_ROOT + "());", onCreateMethod
+                    ));
+                } else {
+                    final String setContentViewText = SET_CONTENT_VIEW + "(" + "R.layout." + activityLayoutName + ");";
+                    final PsiStatement callSuperStatement = psiUtils.createStatementFromText(
+                            setContentViewText, onCreateMethod
+                    );
+                    codeBlock.add(callSuperStatement);
+                }
             }
         }
 
         return onCreateMethod;
     }
-
-    private void register(@Nullable String name) {
-        final PsiFile[] files = FilenameIndex.getFilesByName(
-                project, ANDROID_MANIFEST, GlobalSearchScope.projectScope(project)
-        );
-        if (files.length > 0 && files[0] instanceof XmlFile) {
-            final XmlFile androidManifest = (XmlFile) files[0];
-            final XmlTag manifestTag = androidManifest.getRootTag();
-            if (manifestTag != null) {
-                final XmlTag applicationTag = androidManifest.getRootTag().findFirstSubTag(APPLICATION_TAG);
-                if (applicationTag != null && name != null) {
-                    XmlTag activityTag = applicationTag.createChildTag(ACTIVITY_TAG, null, null, false);
-                    activityTag.setAttribute(NAME_ATTRIBUTE, "." + name);
-                    applicationTag.addSubTag(activityTag, false);
-                }
-            }
-        }
-    }
 }
@@ -3,14 +3,22 @@ package services;
 import com.intellij.ide.highlighter.XmlFileType;
 import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.roots.ProjectRootModificationTracker;
+import com.intellij.openapi.ui.Messages;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.*;
 import com.intellij.psi.codeStyle.JavaCodeStyleManager;
 import com.intellij.psi.impl.file.PsiDirectoryFactory;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.xml.XmlFile;
 import com.intellij.util.IncorrectOperationException;
+import models.BundleAccessor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import utils.PsiUtils;
@@ -33,8 +41,17 @@ public class AndroidService {
     protected static final String ANDROIDX_NON_NULL = "androidx.annotation.NonNull";
     protected static final String ANDROIDX_NULLABLE = "androidx.annotation.Nullable";
     protected static final String ANDROIDX_STRING_RES = "androidx.annotation.StringRes";
-    private static final String LAYOUT_TAG = "layout";
     private static final String XML_EXTENSION = ".xml";
+    private static final String VIEW_BINDING_PACKAGE = "databinding";
+    private static final String VIEW_BINDING_POSTFIX = "Binding";
+    protected static final String BINDING = "binding";
+    protected static final String GET_ROOT = "getRoot";
+    private static final String UNSUPPORTED_BUNDLE_TYPE = "Bundle has no accessor for type ";
+    private static final String CREATE_COMPONENT_COMMAND = "Create Android Component";
+    private static final String INVALID_CLASS_NAME = " is not a valid Java class name";
+    private static final String CLASS_ALREADY_EXISTS = "Class already exists: ";
+    private static final String LAYOUT_ALREADY_EXISTS = "Layout already exists and will be reused: ";
+    private static final String ALREADY_DECLARED = "Manifest already declares ";
 
     protected static final String ON_ATTACH = "onAttach";
     protected static final String ON_CREATE = "onCreate";
@@ -65,69 +82,206 @@ public class AndroidService {
 
     protected final Project project;
     protected final JavaCodeStyleManager javaCodeStyleManager;
-    protected final JavaPsiFacade javaFacade;
-    protected final GlobalSearchScope globalSearchScope;
     protected final PsiElementFactory elementFactory;
     protected final PsiUtils psiUtils;
+    protected final GenerationStats generationStats;
+    protected final PlatformClassRegistry platformClassRegistry;
+    protected final BundleAccessorTable bundleAccessorTable;
+    protected final ResourceDirectoryIndex resourceDirectoryIndex;
     private final PsiDirectoryFactory directoryFactory;
     private final PsiFileFactory fileFactory;
     private final String parentComponentName;
+    private final CachedValue<List<PsiMethod>> parentComponentMethods;
 
     public AndroidService(@NotNull Project project, @Nullable String parentComponentName) {
         this.project = project;
         this.parentComponentName = parentComponentName;
         javaCodeStyleManager = JavaCodeStyleManager.getInstance(project);
-        javaFacade = JavaPsiFacade.getInstance(project);
-        globalSearchScope = GlobalSearchScope.allScope(project);
         elementFactory = PsiElementFactory.getInstance(project);
         psiUtils = PsiUtils.getInstance(project);
+        generationStats = GenerationStats.getInstance(project);
+        platformClassRegistry = PlatformClassRegistry.getInstance(project);
+        bundleAccessorTable = BundleAccessorTable.getInstance(project);
+        resourceDirectoryIndex = ResourceDirectoryIndex.getInstance(project);
         directoryFactory = PsiDirectoryFactory.getInstance(project);
         fileFactory = PsiFileFactory.getInstance(project);
+        parentComponentMethods = CachedValuesManager.getManager(project).createCachedValue(
+                () -> CachedValueProvider.Result.create(
+                        Collections.unmodifiableList(
+                                psiUtils.findMethods(findParentComponentClass(), provideComponentMethodNames())
+                        ),
+                        PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT,
+                        ProjectRootModificationTracker.getInstance(project)
+                ),
+                false
+        );
     }
 
     public void createComponentClass(
-            @Nullable VirtualFile currentFile, @NotNull String name, @NotNull List<PsiMethod> methods
+            @Nullable VirtualFile currentFile,
+            @NotNull String name,
+            @NotNull List<PsiMethod> methods,
+            boolean viewBinding
     ) {
         if (currentFile != null && currentFile.exists()) {
             final VirtualFile classFile = currentFile.findChild(name + PsiUtils.JAVA_EXTENSION);
             final FileEditorManager fileEditorManager = FileEditorManager.getInstance(project);
             if (classFile != null && classFile.exists()) {
-                fileEditorManager.openFile(classFile, true);
+                openFile(fileEditorManager, classFile);
             } else {
                 final PsiDirectory psiDirectory = directoryFactory.createDirectory(currentFile);
                 try {
-                    final PsiClass componentClass = JavaDirectoryService.getInstance().createClass(psiDirectory, name);
                     WriteCommandAction.runWriteCommandAction(project, () -> {
-                        final PsiClass parentClass = javaFacade.findClass(parentComponentName, globalSearchScope);
-                        if (parentClass != null) {
-                            psiUtils.extendClass(componentClass, parentClass);
-                        }
-                        final List<PsiMethod> componentMethods = createComponentMethods(componentClass, methods);
-                        for (PsiMethod method : componentMethods) {
-                            componentClass.add(method);
-                        }
-
-                        onCreateComponent(componentClass);
-
-                        fileEditorManager.openFile(componentClass.getContainingFile().getVirtualFile(), true);
+                        final PsiClass componentClass = generateComponentClass(
+                                psiDirectory, name, methods, viewBinding
+                        );
+                        openFile(fileEditorManager, componentClass.getContainingFile().getVirtualFile());
                     });
                 } catch (IncorrectOperationException exception) {
-                    System.out.println(exception.getLocalizedMessage());
+                    Messages.showErrorDialog(project, exception.getLocalizedMessage(), CREATE_COMPONENT_COMMAND);
+                }
+            }
+        }
+    }
+
+    @NotNull
+    public PsiClass generateComponentClass(
+            @NotNull PsiDirectory psiDirectory,
+            @NotNull String name,
+            @NotNull List<PsiMethod> methods,
+            boolean viewBinding
+    ) {
+        PsiClass componentClass = null;
+        try (GenerationStats.Phase ignored = generationStats.startPhase(GenerationStats.PHASE_CREATE_CLASS)) {
+            componentClass = JavaDirectoryService.getInstance().createClass(psiDirectory, name);
+            final PsiClass parentClass = findParentComponentClass();
+            if (parentClass != null) {
+                psiUtils.extendClass(componentClass, parentClass);
+                generationStats.countInsertion();
+            }
+            try (GenerationStats.Phase methodsPhase = generationStats.startPhase(
+                    GenerationStats.PHASE_CREATE_METHODS
+            )) {
+                final List<PsiMethod> componentMethods = createComponentMethods(
+                        componentClass, methods, viewBinding
+                );
+                for (PsiMethod method : componentMethods) {
+                    componentClass.add(method);
+                    generationStats.countInsertion();
                 }
             }
+            psiUtils.shortenClassReferences(componentClass);
+
+            try (GenerationStats.Phase registerPhase = generationStats.startPhase(
+                    GenerationStats.PHASE_REGISTER_COMPONENT
+            )) {
+                onCreateComponent(componentClass);
+            }
+
+            return componentClass;
+        } catch (IncorrectOperationException exception) {
+            deleteComponentFile(componentClass);
+            throw exception;
+        }
+    }
+
+    private void deleteComponentFile(@Nullable PsiClass componentClass) {
+        final PsiFile componentFile = componentClass != null ? componentClass.getContainingFile() : null;
+        if (componentFile != null && componentFile.isValid()) {
+            componentFile.delete();
         }
     }
 
+    private void openFile(@NotNull FileEditorManager fileEditorManager, @NotNull VirtualFile file) {
+        try (GenerationStats.Phase ignored = generationStats.startPhase(GenerationStats.PHASE_OPEN_FILE)) {
+            fileEditorManager.openFile(file, true);
+        }
+    }
+
+    @Nullable
+    private PsiClass findParentComponentClass() {
+        return parentComponentName != null ? platformClassRegistry.findClass(parentComponentName) : null;
+    }
+
     public List<PsiMethod> provideParentComponentMethods() {
-        return psiUtils.findMethods(parentComponentName, provideComponentMethodNames());
+        return parentComponentMethods.getValue();
+    }
+
+    public List<PsiMethod> provideParentComponentMethods(@NotNull List<String> methodNames) {
+        final List<PsiMethod> selectedMethods = new ArrayList<>();
+        for (PsiMethod method : provideParentComponentMethods()) {
+            if (methodNames.contains(method.getName())) {
+                selectedMethods.add(method);
+            }
+        }
+
+        return selectedMethods;
+    }
+
+    @Nullable
+    public String findClassNameConflict(@Nullable VirtualFile directory, @NotNull String name) {
+        if (!PsiNameHelper.getInstance(project).isIdentifier(name)) {
+            return "'" + name + "'" + INVALID_CLASS_NAME;
+        }
+        if (directory == null || !directory.isValid()) {
+            return null;
+        }
+        if (directory.findChild(name + PsiUtils.JAVA_EXTENSION) != null) {
+            return CLASS_ALREADY_EXISTS + name;
+        }
+
+        final String qualifiedName = createQualifiedName(directory, name);
+        if (qualifiedName != null
+                && !DumbService.isDumb(project)
+                && JavaPsiFacade.getInstance(project).findClass(
+                        qualifiedName, GlobalSearchScope.projectScope(project)
+                ) != null) {
+            return CLASS_ALREADY_EXISTS + qualifiedName;
+        }
+
+        return null;
+    }
+
+    @Nullable
+    public String findResourceConflict(@Nullable VirtualFile directory, @NotNull String name) {
+        if (directory == null || !directory.isValid()) {
+            return null;
+        }
+
+        final PsiDirectory psiDirectory = directoryFactory.createDirectory(directory);
+        final String layoutPrefix = provideLayoutPrefix();
+        final String layoutName = layoutPrefix != null ? createComponentLayoutName(name, layoutPrefix) : null;
+        if (layoutName != null && resourceDirectoryIndex.hasLayout(psiDirectory, layoutName)) {
+            return LAYOUT_ALREADY_EXISTS + layoutName;
+        }
+
+        final String qualifiedName = createQualifiedName(directory, name);
+        final ManifestRegistry manifestRegistry = ManifestRegistry.getInstance(project);
+        final XmlFile manifest = isDeclaredInManifest() && !DumbService.isDumb(project)
+                ? manifestRegistry.findManifest(psiDirectory)
+                : null;
+        if (qualifiedName != null && manifest != null && manifestRegistry.isDeclared(manifest, qualifiedName)) {
+            return ALREADY_DECLARED + qualifiedName;
+        }
+
+        return null;
     }
 
     protected String[] provideComponentMethodNames() {
         return COMPONENT_METHOD_NAMES;
     }
 
+    @Nullable
+    protected String provideLayoutPrefix() {
+        return null;
+    }
+
+    protected boolean isDeclaredInManifest() {
+        return false;
+    }
+
     protected List<PsiMethod> createComponentMethods(
-            @NotNull PsiClass componentClass, @NotNull List<PsiMethod> methods
+            @NotNull PsiClass componentClass, @NotNull List<PsiMethod> methods, boolean viewBinding
     ) {
 
         return Collections.emptyList();
@@ -137,73 +291,68 @@ public class AndroidService {
 
     }
 
-    protected PsiStatement createPutToBundleStatement(
+    @Nullable
+    protected String createPutToBundleCall(
             @NotNull String bundle, @NotNull PsiType type, @NotNull String name, @NotNull String key
     ) {
-        final PsiClass bundleClass = javaFacade.findClass(BUNDLE, globalSearchScope);
-        final String typeName = StringUtils.capitalize(type.getPresentableText().toLowerCase());
-        if (bundleClass != null) {
-            final PsiMethod[] methods = bundleClass.findMethodsByName(PsiUtils.PUT + typeName, true);
-            if (methods.length > 0) {
-                final List<String> methodParams = new ArrayList<>();
-                methodParams.add(key);
-                methodParams.add(name);
-                final String methodCallText = psiUtils.createMethodCall(
-                        methods[0].getName(), methodParams, bundle, false
-                );
-
-                return elementFactory.createStatementFromText(methodCallText + ";", bundleClass);
-            }
+        final BundleAccessor accessor = findBundleAccessor(type);
+        if (accessor == null) {
+            return null;
         }
 
-        return null;
+        final List<String> methodParams = new ArrayList<>();
+        methodParams.add(key);
+        methodParams.add(name);
+
+        return psiUtils.createMethodCall(accessor.getPutMethodName(), methodParams, bundle, false);
     }
 
-    protected PsiStatement createGetFromBundleVariable(
-            @NotNull String bundle,
-            @NotNull PsiType type,
-            @NotNull String variableName,
-            @NotNull String key,
-            @Nullable String defaultValue
+    @Nullable
+    protected String createGetFromBundleCall(
+            @NotNull String bundle, @NotNull PsiType type, @NotNull String key, @Nullable String defaultValue
     ) {
-        final PsiClass bundleClass = javaFacade.findClass(BUNDLE, globalSearchScope);
-        final String typeName = StringUtils.capitalize(type.getPresentableText().toLowerCase());
-        if (bundleClass != null) {
-            final PsiMethod[] methods = bundleClass.findMethodsByName(PsiUtils.GET + typeName, true);
-            if (methods.length > 0) {
-                final List<String> methodParams = new ArrayList<>();
-                methodParams.add(key);
-                if (defaultValue != null) {
-                    methodParams.add(defaultValue);
-                }
-                final String methodCallText = psiUtils.createMethodCall(
-                        methods[0].getName(), methodParams, bundle, false
-                );
+        final BundleAccessor accessor = findBundleAccessor(type);
+        if (accessor == null) {
+            return null;
+        }
 
-                final PsiExpression getFromBundle = elementFactory.createExpressionFromText(
-                        methodCallText, null
-                );
-                return psiUtils.createVariable(getFromBundle, type, variableName);
-            }
+        final List<String> methodParams = new ArrayList<>();
+        methodParams.add(key);
+        if (defaultValue != null && accessor.supportsDefaultValue()) {
+            methodParams.add(defaultValue);
         }
 
-        return null;
+        final String getCall = psiUtils.createMethodCall(accessor.getGetMethodName(), methodParams, bundle, false);
+        final String castTypeText = accessor.getCastTypeText();
+
+        return castTypeText != null ? "(" + castTypeText + ") " + getCall : getCall;
     }
 
-    protected PsiExpression textIsEmptyCheck(@Nullable String text, boolean inverse) {
-        final StringBuilder textIsEmpty = new StringBuilder();
-        if (inverse) {
-            textIsEmpty.append("!");
+    @Nullable
+    private BundleAccessor findBundleAccessor(@NotNull PsiType type) {
+        if (!bundleAccessorTable.isAvailable()) {
+            return null;
         }
-        final List<String> methodParams = new ArrayList<>();
-        methodParams.add(text);
-        textIsEmpty.append(psiUtils.createMethodCall(PsiUtils.IS_EMPTY, methodParams, TEXT_UTILS, false));
-        final PsiExpression textIsEmptyExpression = elementFactory.createExpressionFromText(
-                textIsEmpty.toString(), null
+
+        final BundleAccessor accessor = bundleAccessorTable.findAccessor(type);
+        if (accessor == null) {
+            throw new IncorrectOperationException(UNSUPPORTED_BUNDLE_TYPE + type.getCanonicalText());
+        }
+
+        return accessor;
+    }
+
+    @Nullable
+    private String createQualifiedName(@NotNull VirtualFile directory, @NotNull String name) {
+        final PsiPackage psiPackage = JavaDirectoryService.getInstance().getPackage(
+                directoryFactory.createDirectory(directory)
         );
-        javaCodeStyleManager.shortenClassReferences(textIsEmptyExpression);
+        if (psiPackage == null) {
+            return null;
+        }
 
-        return textIsEmptyExpression;
+        final String packageName = psiPackage.getQualifiedName();
+        return packageName.isEmpty() ? name : packageName + "." + name;
     }
 
     protected String createComponentLayoutName(@NotNull String componentName, @NotNull String layoutPrefix) {
@@ -211,21 +360,48 @@ public class AndroidService {
         return StringUtils.convertCamelToSnake(componentName, layoutPrefix, null, false);
     }
 
-    protected void createComponentLayout(@NotNull String componentName, @NotNull String layoutPrefix) {
-        final String activityLayoutName = createComponentLayoutName(componentName, layoutPrefix);
-        if (activityLayoutName != null) {
-            final VirtualFile[] sourceRoots = ProjectRootManager.getInstance(project).getContentSourceRoots();
-            for (VirtualFile sourceRoot : sourceRoots) {
-                final VirtualFile layoutDirectory =  sourceRoot.findFileByRelativePath(LAYOUT_TAG);
-                if (layoutDirectory != null && layoutDirectory.exists()) {
-                    final PsiDirectory psiDirectory = directoryFactory.createDirectory(layoutDirectory);
-                    final PsiFile activityLayoutFile = fileFactory.createFileFromText(
-                            activityLayoutName + XML_EXTENSION,
-                            XmlFileType.INSTANCE,
-                            EMPTY_LAYOUT_TEMPLATE
-                    );
-                    psiDirectory.add(activityLayoutFile);
-                }
+    protected String addViewBindingField(@NotNull PsiClass componentClass, @NotNull String layoutName) {
+        final String bindingClassName = StringUtils.convertSnakeToCamel(layoutName, true) + VIEW_BINDING_POSTFIX;
+        final ManifestRegistry manifestRegistry = ManifestRegistry.getInstance(project);
+        final XmlFile manifest = manifestRegistry.findManifest(componentClass);
+        final String manifestPackage = manifest != null ? manifestRegistry.getManifestPackage(manifest) : null;
+        final PsiFile componentFile = componentClass.getContainingFile();
+        if (manifestPackage != null && !manifestPackage.isEmpty() && componentFile instanceof PsiJavaFile) {
+            psiUtils.addImport(
+                    (PsiJavaFile) componentFile, manifestPackage + "." + VIEW_BINDING_PACKAGE + "." + bindingClassName
+            );
+        }
+
+        final PsiField bindingField = elementFactory.createFieldFromText(
+                PsiModifier.PRIVATE + " " + bindingClassName + " " + BINDING + ";", componentClass
+        );
+        generationStats.countParse();
+        componentClass.add(bindingField);
+        generationStats.countInsertion();
+
+        return bindingClassName;
+    }
+
+    protected void createComponentLayout(
+            @NotNull PsiClass componentClass, @NotNull String componentName, @NotNull String layoutPrefix
+    ) {
+        final String layoutName = createComponentLayoutName(componentName, layoutPrefix);
+        if (layoutName == null || resourceDirectoryIndex.hasLayout(componentClass, layoutName)) {
+            return;
+        }
+
+        try (GenerationStats.Phase ignored = generationStats.startPhase(GenerationStats.PHASE_CREATE_LAYOUT)) {
+            final VirtualFile layoutDirectory = resourceDirectoryIndex.findLayoutDirectory(componentClass);
+            if (layoutDirectory != null && layoutDirectory.isValid()) {
+                final PsiDirectory psiDirectory = directoryFactory.createDirectory(layoutDirectory);
+                final PsiFile layoutFile = fileFactory.createFileFromText(
+                        layoutName + XML_EXTENSION,
+                        XmlFileType.INSTANCE,
+                        EMPTY_LAYOUT_TEMPLATE
+                );
+                generationStats.countParse();
+                psiDirectory.add(layoutFile);
+                generationStats.countInsertion();
             }
         }
     }
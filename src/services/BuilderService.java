@@ -0,0 +1,888 @@
+package services;
+
+import com.intellij.codeInsight.daemon.impl.analysis.HighlightControlFlowUtil;
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.*;
+import com.intellij.psi.codeStyle.CodeStyleManager;
+import com.intellij.psi.codeStyle.JavaCodeStyleManager;
+import com.intellij.psi.search.searches.ReferencesSearch;
+import com.intellij.psi.util.MethodSignature;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.util.PsiUtil;
+import com.intellij.util.IncorrectOperationException;
+import models.BuilderOptions;
+import models.FieldDescriptor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import utils.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BuilderService {
+
+    public static final String BUILDER = "Builder";
+
+    private static final String SETTER_NAME_PREFIX = "set";
+    private static final String BUILD_NAME_PREFIX = "build";
+    private static final String RESET_NAME = "reset";
+    private static final String REUSABLE_NAME = "reusable";
+    private static final String REUSABLE_BUILDER = "REUSABLE_BUILDER";
+    private static final String THREAD_LOCAL = "java.lang.ThreadLocal";
+    private static final String INITIAL_VALUE = "initialValue";
+    private static final String CACHED_HASH_CODE = "cachedHashCode";
+    private static final String HASH_RESULT = "result";
+    private static final String EQUALS = "equals";
+    private static final String HASH_CODE = "hashCode";
+    private static final String TO_STRING = "toString";
+    private static final String OBJECT = "object";
+    private static final String OTHER = "that";
+    private static final String ARRAYS = "java.util.Arrays";
+    private static final String OBJECTS = "java.util.Objects";
+    private static final String GENERATE_BUILDERS_COMMAND = "Generate Builders";
+    private static final String ANALYZING_CLASSES = "Analyzing classes";
+    private static final String GENERATING_BUILDERS = "Generating builders";
+    private static final String FIELD = "Field '";
+    private static final String ASSIGNED_OUTSIDE_CONSTRUCTOR = "' is assigned outside a constructor";
+    private static final String INITIALIZER_NOT_MOVABLE = "' has an initializer that cannot move to the Builder";
+    private static final String NOT_ASSIGNED_BY_CONSTRUCTOR = "' is not assigned by every constructor";
+
+    private final Project project;
+    private final PsiManager psiManager;
+    private final SmartPointerManager smartPointerManager;
+    private final PsiElementFactory elementFactory;
+    private final JavaCodeStyleManager javaCodeStyleManager;
+    private final CodeStyleManager codeStyleManager;
+    private final PsiDocumentManager psiDocumentManager;
+    private final GenerationStats generationStats;
+
+    public BuilderService(@NotNull Project project) {
+        this.project = project;
+        psiManager = PsiManager.getInstance(project);
+        smartPointerManager = SmartPointerManager.getInstance(project);
+        generationStats = GenerationStats.getInstance(project);
+        elementFactory = PsiElementFactory.getInstance(project);
+        javaCodeStyleManager = JavaCodeStyleManager.getInstance(project);
+        codeStyleManager = CodeStyleManager.getInstance(project);
+        psiDocumentManager = PsiDocumentManager.getInstance(project);
+    }
+
+    public static BuilderService getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, BuilderService.class);
+    }
+
+    public List<FieldDescriptor> collectFieldDescriptors(@NotNull PsiClass targetClass) {
+        final List<FieldDescriptor> fieldDescriptors = new ArrayList<>();
+        for (PsiField field : targetClass.getAllFields()) {
+            ProgressManager.checkCanceled();
+            fieldDescriptors.add(FieldDescriptor.create(field));
+        }
+
+        return Collections.unmodifiableList(fieldDescriptors);
+    }
+
+    public List<FieldDescriptor> collectOwnFieldDescriptors(@NotNull PsiClass targetClass) {
+        final List<FieldDescriptor> fieldDescriptors = new ArrayList<>();
+        for (PsiField field : targetClass.getFields()) {
+            ProgressManager.checkCanceled();
+            if (!field.hasModifierProperty(PsiModifier.STATIC) && !isInitializedFinal(field)) {
+                fieldDescriptors.add(FieldDescriptor.create(field));
+            }
+        }
+
+        return Collections.unmodifiableList(fieldDescriptors);
+    }
+
+    public int generateBuilders(@NotNull Collection<VirtualFile> roots, @NotNull ProgressIndicator indicator) {
+        final List<VirtualFile> javaFiles = collectJavaFiles(roots);
+        final Map<VirtualFile, List<BuilderCandidate>> candidates = new ConcurrentHashMap<>();
+        final AtomicInteger analyzedFiles = new AtomicInteger();
+        final int totalSteps = Math.max(1, javaFiles.size() * 2);
+
+        indicator.setIndeterminate(false);
+        indicator.setText(ANALYZING_CLASSES);
+        final boolean analyzed = JobLauncher.getInstance().invokeConcurrentUnderProgress(
+                javaFiles,
+                indicator,
+                javaFile -> {
+                    final List<BuilderCandidate> fileCandidates = ReadAction
+                            .nonBlocking(() -> findBuilderCandidates(javaFile))
+                            .executeSynchronously();
+                    if (!fileCandidates.isEmpty()) {
+                        candidates.put(javaFile, fileCandidates);
+                    }
+                    indicator.setFraction((double) analyzedFiles.incrementAndGet() / totalSteps);
+                    return true;
+                }
+        );
+        if (!analyzed) {
+            throw new ProcessCanceledException();
+        }
+
+        indicator.setText(GENERATING_BUILDERS);
+        final AtomicInteger generatedBuilders = new AtomicInteger();
+        int appliedFiles = 0;
+        for (List<BuilderCandidate> fileCandidates : candidates.values()) {
+            indicator.checkCanceled();
+            ApplicationManager.getApplication().invokeAndWait(
+                    () -> WriteCommandAction.runWriteCommandAction(
+                            project,
+                            GENERATE_BUILDERS_COMMAND,
+                            null,
+                            () -> generatedBuilders.addAndGet(applyBuilderCandidates(fileCandidates))
+                    ),
+                    ModalityState.defaultModalityState()
+            );
+            appliedFiles++;
+            indicator.setFraction((double) (javaFiles.size() + appliedFiles) / totalSteps);
+        }
+
+        return generatedBuilders.get();
+    }
+
+    private List<VirtualFile> collectJavaFiles(@NotNull Collection<VirtualFile> roots) {
+        final Set<VirtualFile> javaFiles = new LinkedHashSet<>();
+        for (VirtualFile root : roots) {
+            VfsUtilCore.iterateChildrenRecursively(root, null, file -> {
+                if (!file.isDirectory() && JavaFileType.INSTANCE.equals(file.getFileType())) {
+                    javaFiles.add(file);
+                }
+                return true;
+            });
+        }
+
+        return new ArrayList<>(javaFiles);
+    }
+
+    private List<BuilderCandidate> findBuilderCandidates(@NotNull VirtualFile javaFile) {
+        final PsiFile psiFile = javaFile.isValid() ? psiManager.findFile(javaFile) : null;
+        if (!(psiFile instanceof PsiJavaFile)) {
+            return Collections.emptyList();
+        }
+
+        final List<BuilderCandidate> fileCandidates = new ArrayList<>();
+        for (PsiClass psiClass : ((PsiJavaFile) psiFile).getClasses()) {
+            if (isBuilderCandidate(psiClass)) {
+                final List<FieldDescriptor> fields = collectOwnFieldDescriptors(psiClass);
+                if (!fields.isEmpty()) {
+                    fileCandidates.add(createCandidate(psiClass, fields, BuilderOptions.DEFAULT));
+                }
+            }
+        }
+
+        return fileCandidates;
+    }
+
+    private boolean isBuilderCandidate(@NotNull PsiClass psiClass) {
+        return psiClass.getName() != null
+                && !psiClass.isInterface()
+                && !psiClass.isEnum()
+                && !psiClass.isAnnotationType()
+                && !psiClass.hasModifierProperty(PsiModifier.ABSTRACT)
+                && findBuilderClass(psiClass) == null;
+    }
+
+    private boolean isInitializedFinal(@NotNull PsiField field) {
+        return field.hasModifierProperty(PsiModifier.FINAL) && field.hasInitializer();
+    }
+
+    private int applyBuilderCandidates(@NotNull List<BuilderCandidate> fileCandidates) {
+        int generatedBuilders = 0;
+        for (BuilderCandidate candidate : fileCandidates) {
+            final PsiClass targetClass = candidate.targetClass.getElement();
+            if (targetClass == null || !targetClass.isValid() || findBuilderClass(targetClass) != null) {
+                continue;
+            }
+
+            final BuilderMembers builderMembers = createBuilderMembers(
+                    targetClass, candidate.fields, candidate.options, candidate.finalFieldNames
+            );
+            if (builderMembers != null) {
+                addBuilderMembers(targetClass, builderMembers);
+                generatedBuilders++;
+            }
+        }
+
+        return generatedBuilders;
+    }
+
+    public List<String> findFinalFieldNames(
+            @NotNull PsiClass targetClass, @NotNull List<FieldDescriptor> fields, @NotNull BuilderOptions options
+    ) {
+        if (!options.isValueClass()) {
+            return Collections.emptyList();
+        }
+
+        final PsiClass existingBuilderClass = findBuilderClass(targetClass);
+        final PsiMethod generatedConstructor = existingBuilderClass != null
+                ? findGeneratedConstructor(existingBuilderClass, targetClass)
+                : null;
+        final List<String> finalFieldNames = new ArrayList<>();
+        for (FieldDescriptor field : fields) {
+            ProgressManager.checkCanceled();
+            final PsiField targetField = targetClass.findFieldByName(field.getName(), false);
+            if (targetField != null && !targetField.hasModifierProperty(PsiModifier.FINAL)) {
+                checkCanMakeFinal(targetClass, targetField, field, generatedConstructor);
+                finalFieldNames.add(field.getName());
+            }
+        }
+
+        return Collections.unmodifiableList(finalFieldNames);
+    }
+
+    public BuilderMembers createBuilderMembers(
+            @NotNull PsiClass targetClass,
+            @NotNull List<FieldDescriptor> fields,
+            @NotNull BuilderOptions options,
+            @NotNull List<String> finalFieldNames
+    ) {
+        final String className = targetClass.getName();
+        if (className == null) {
+            return null;
+        }
+
+        final String membersText;
+        try (GenerationStats.Phase ignored = generationStats.startPhase(GenerationStats.PHASE_RENDER_TEXT)) {
+            membersText = renderBuilderMembers(className, fields, options);
+        }
+        final PsiClass membersHolder = elementFactory.createClassFromText(membersText, targetClass);
+        generationStats.countParse();
+        final PsiMethod[] constructors = membersHolder.getConstructors();
+        final PsiClass[] innerClasses = membersHolder.getInnerClasses();
+        if (constructors.length == 0 || innerClasses.length == 0) {
+            return null;
+        }
+
+        final List<PsiMember> valueMembers = new ArrayList<>();
+        if (options.isValueClass()) {
+            Collections.addAll(valueMembers, membersHolder.getFields());
+            for (PsiMethod method : membersHolder.getMethods()) {
+                if (!method.isConstructor()) {
+                    valueMembers.add(method);
+                }
+            }
+        }
+
+        return new BuilderMembers(constructors[0], innerClasses[0], valueMembers, finalFieldNames);
+    }
+
+    public BuilderCandidate prepareRegeneration(@NotNull PsiClass targetClass) {
+        final PsiClass builderClass = findBuilderClass(targetClass);
+        final Set<String> builderFieldNames = new HashSet<>();
+        if (builderClass != null) {
+            for (PsiField field : builderClass.getFields()) {
+                builderFieldNames.add(field.getName());
+            }
+        }
+
+        final List<FieldDescriptor> fields = new ArrayList<>();
+        for (FieldDescriptor field : collectFieldDescriptors(targetClass)) {
+            final boolean ownField = Objects.equals(targetClass.getName(), field.getOwnerName());
+            if (!field.hasModifier(PsiModifier.STATIC)
+                    && (builderFieldNames.contains(field.getName())
+                    || ownField && !field.hasModifier(PsiModifier.TRANSIENT))) {
+                fields.add(field);
+            }
+        }
+
+        final BuilderOptions options = new BuilderOptions(
+                builderClass != null && builderClass.findMethodsByName(RESET_NAME, false).length > 0,
+                targetClass.findFieldByName(CACHED_HASH_CODE, false) != null
+        );
+
+        return createCandidate(targetClass, fields, options);
+    }
+
+    public void regenerateBuilder(@NotNull BuilderCandidate candidate) {
+        final PsiClass targetClass = candidate.targetClass.getElement();
+        if (targetClass == null || !targetClass.isValid()) {
+            return;
+        }
+
+        final BuilderMembers builderMembers = createBuilderMembers(
+                targetClass, candidate.fields, candidate.options, candidate.finalFieldNames
+        );
+        if (builderMembers != null) {
+            addBuilderMembers(targetClass, builderMembers);
+        }
+    }
+
+    private BuilderCandidate createCandidate(
+            @NotNull PsiClass targetClass, @NotNull List<FieldDescriptor> fields, @NotNull BuilderOptions options
+    ) {
+        return new BuilderCandidate(
+                smartPointerManager.createSmartPsiElementPointer(targetClass),
+                fields,
+                options,
+                findFinalFieldNames(targetClass, fields, options)
+        );
+    }
+
+    public PsiClass findBuilderClass(@NotNull PsiClass targetClass) {
+        return targetClass.findInnerClassByName(BUILDER, false);
+    }
+
+    public void addBuilderMembers(@NotNull PsiClass targetClass, @NotNull BuilderMembers builderMembers) {
+        final List<PsiElement> insertedMembers = new ArrayList<>();
+        try (GenerationStats.Phase ignored = generationStats.startPhase(GenerationStats.PHASE_INSERT_MEMBERS)) {
+            final PsiClass existingBuilderClass = findBuilderClass(targetClass);
+            final PsiMethod generatedConstructor = existingBuilderClass != null
+                    ? findGeneratedConstructor(existingBuilderClass, targetClass)
+                    : null;
+            if (!containsMethod(targetClass, builderMembers.constructor)) {
+                insertedMembers.add(generatedConstructor != null
+                        ? generatedConstructor.replace(builderMembers.constructor)
+                        : targetClass.add(builderMembers.constructor));
+            }
+
+            if (existingBuilderClass != null) {
+                mergeBuilderClass(existingBuilderClass, builderMembers.builderClass, targetClass, insertedMembers);
+            } else {
+                insertedMembers.add(targetClass.add(builderMembers.builderClass));
+            }
+
+            makeFieldsFinal(targetClass, builderMembers.finalFieldNames);
+            for (PsiMember valueMember : builderMembers.valueMembers) {
+                insertedMembers.add(addOrReplaceMember(targetClass, valueMember));
+            }
+        }
+        generationStats.countInsertions(insertedMembers.size());
+
+        finishGeneration(targetClass, insertedMembers);
+    }
+
+    private void mergeBuilderClass(
+            @NotNull PsiClass existingBuilder,
+            @NotNull PsiClass desiredBuilder,
+            @NotNull PsiClass targetClass,
+            @NotNull List<PsiElement> changedMembers
+    ) {
+        final Set<String> desiredFieldNames = new HashSet<>();
+        for (PsiField desiredField : desiredBuilder.getFields()) {
+            desiredFieldNames.add(desiredField.getName());
+            final PsiField existingField = existingBuilder.findFieldByName(desiredField.getName(), false);
+            if (existingField == null) {
+                final PsiField[] existingFields = existingBuilder.getFields();
+                changedMembers.add(existingFields.length > 0
+                        ? existingBuilder.addAfter(desiredField, existingFields[existingFields.length - 1])
+                        : existingBuilder.add(desiredField));
+            } else if (!existingField.getType().equals(desiredField.getType())
+                    || desiredField.hasInitializer() && !existingField.hasInitializer()) {
+                changedMembers.add(existingField.replace(desiredField));
+            }
+        }
+
+        for (PsiField existingField : existingBuilder.getFields()) {
+            if (!desiredFieldNames.contains(existingField.getName())) {
+                final PsiMethod generatedSetter = findSetter(existingBuilder, existingField.getName());
+                if (generatedSetter != null) {
+                    generatedSetter.delete();
+                    existingField.delete();
+                }
+            }
+        }
+
+        for (PsiMethod desiredMethod : desiredBuilder.getMethods()) {
+            final PsiMethod existingMethod = existingBuilder.findMethodBySignature(desiredMethod, false);
+            final String methodName = desiredMethod.getName();
+            if (existingMethod != null) {
+                if (BUILD_NAME_PREFIX.equals(methodName)) {
+                    mergeBuildMethod(existingMethod, desiredMethod, targetClass, changedMembers);
+                } else if (RESET_NAME.equals(methodName) && !existingMethod.getText().equals(desiredMethod.getText())) {
+                    changedMembers.add(existingMethod.replace(desiredMethod));
+                }
+                continue;
+            }
+
+            final PsiMethod changedSetter = methodName.startsWith(SETTER_NAME_PREFIX)
+                    ? findSetterByName(existingBuilder, methodName)
+                    : null;
+            changedMembers.add(changedSetter != null
+                    ? changedSetter.replace(desiredMethod)
+                    : existingBuilder.add(desiredMethod));
+        }
+    }
+
+    private void mergeBuildMethod(
+            @NotNull PsiMethod existingMethod,
+            @NotNull PsiMethod desiredMethod,
+            @NotNull PsiClass targetClass,
+            @NotNull List<PsiElement> changedMembers
+    ) {
+        final PsiNewExpression existingNew = findTargetNewExpression(existingMethod, targetClass);
+        final PsiNewExpression desiredNew = findTargetNewExpression(desiredMethod, targetClass);
+        final PsiExpressionList existingArguments = existingNew != null ? existingNew.getArgumentList() : null;
+        final PsiExpressionList desiredArguments = desiredNew != null ? desiredNew.getArgumentList() : null;
+        if (existingArguments != null
+                && desiredArguments != null
+                && !existingArguments.getText().equals(desiredArguments.getText())) {
+            changedMembers.add(existingArguments.replace(desiredArguments));
+        }
+    }
+
+    private PsiMethod findGeneratedConstructor(@NotNull PsiClass builderClass, @NotNull PsiClass targetClass) {
+        for (PsiMethod buildMethod : builderClass.findMethodsByName(BUILD_NAME_PREFIX, false)) {
+            final PsiNewExpression newExpression = findTargetNewExpression(buildMethod, targetClass);
+            final PsiMethod constructor = newExpression != null ? newExpression.resolveConstructor() : null;
+            if (constructor != null
+                    && targetClass.equals(constructor.getContainingClass())
+                    && constructor.hasModifierProperty(PsiModifier.PRIVATE)) {
+                return constructor;
+            }
+        }
+
+        return null;
+    }
+
+    private PsiNewExpression findTargetNewExpression(@NotNull PsiMethod method, @NotNull PsiClass targetClass) {
+        for (PsiNewExpression newExpression : PsiTreeUtil.findChildrenOfType(method, PsiNewExpression.class)) {
+            final PsiJavaCodeReferenceElement classReference = newExpression.getClassReference();
+            if (classReference != null && Objects.equals(targetClass.getName(), classReference.getReferenceName())) {
+                return newExpression;
+            }
+        }
+
+        return null;
+    }
+
+    private PsiMethod findSetter(@NotNull PsiClass builderClass, @NotNull String fieldName) {
+        return findSetterByName(builderClass, SETTER_NAME_PREFIX + StringUtils.capitalize(fieldName));
+    }
+
+    private PsiMethod findSetterByName(@NotNull PsiClass builderClass, @NotNull String setterName) {
+        for (PsiMethod method : builderClass.findMethodsByName(setterName, false)) {
+            if (method.getParameterList().getParametersCount() == 1) {
+                return method;
+            }
+        }
+
+        return null;
+    }
+
+    private void checkCanMakeFinal(
+            @NotNull PsiClass targetClass,
+            @NotNull PsiField targetField,
+            @NotNull FieldDescriptor field,
+            @Nullable PsiMethod generatedConstructor
+    ) {
+        if (targetField.hasInitializer() && field.getDefaultValueText() == null) {
+            throw new IncorrectOperationException(FIELD + field.getName() + INITIALIZER_NOT_MOVABLE);
+        }
+
+        final Set<PsiMethod> writingConstructors = new HashSet<>();
+        for (PsiReference reference : ReferencesSearch.search(targetField)) {
+            final PsiElement element = reference.getElement();
+            if (!(element instanceof PsiReferenceExpression)
+                    || !PsiUtil.isAccessedForWriting((PsiReferenceExpression) element)) {
+                continue;
+            }
+
+            final PsiMethod writingMethod = PsiTreeUtil.getParentOfType(
+                    element, PsiMethod.class, true, PsiClass.class, PsiLambdaExpression.class
+            );
+            if (writingMethod == null
+                    || !writingMethod.isConstructor()
+                    || !targetClass.equals(writingMethod.getContainingClass())) {
+                throw new IncorrectOperationException(FIELD + field.getName() + ASSIGNED_OUTSIDE_CONSTRUCTOR);
+            }
+            writingConstructors.add(writingMethod);
+        }
+
+        for (PsiMethod constructor : targetClass.getConstructors()) {
+            if (!constructor.equals(generatedConstructor)
+                    && !isAssignedByConstructor(
+                            constructor, targetField, generatedConstructor, writingConstructors, new HashSet<>()
+                    )) {
+                throw new IncorrectOperationException(FIELD + field.getName() + NOT_ASSIGNED_BY_CONSTRUCTOR);
+            }
+        }
+    }
+
+    private boolean isAssignedByConstructor(
+            @NotNull PsiMethod constructor,
+            @NotNull PsiField targetField,
+            @Nullable PsiMethod generatedConstructor,
+            @NotNull Set<PsiMethod> writingConstructors,
+            @NotNull Set<PsiMethod> visitedConstructors
+    ) {
+        final PsiCodeBlock body = constructor.getBody();
+        if (body == null || !visitedConstructors.add(constructor)) {
+            return false;
+        }
+
+        final PsiMethod delegateConstructor = findDelegateConstructor(body);
+        if (delegateConstructor == null) {
+            return HighlightControlFlowUtil.variableDefinitelyAssignedIn(targetField, body);
+        }
+
+        return !writingConstructors.contains(constructor)
+                && (delegateConstructor.equals(generatedConstructor)
+                || isAssignedByConstructor(
+                        delegateConstructor, targetField, generatedConstructor, writingConstructors, visitedConstructors
+                ));
+    }
+
+    @Nullable
+    private PsiMethod findDelegateConstructor(@NotNull PsiCodeBlock body) {
+        final PsiStatement[] statements = body.getStatements();
+        final PsiExpression expression = statements.length > 0 && statements[0] instanceof PsiExpressionStatement
+                ? ((PsiExpressionStatement) statements[0]).getExpression()
+                : null;
+        if (!(expression instanceof PsiMethodCallExpression)) {
+            return null;
+        }
+
+        final PsiMethodCallExpression call = (PsiMethodCallExpression) expression;
+        return PsiKeyword.THIS.equals(call.getMethodExpression().getReferenceName()) ? call.resolveMethod() : null;
+    }
+
+    private void makeFieldsFinal(@NotNull PsiClass targetClass, @NotNull List<String> fieldNames) {
+        for (String fieldName : fieldNames) {
+            final PsiField field = targetClass.findFieldByName(fieldName, false);
+            final PsiModifierList modifierList = field != null ? field.getModifierList() : null;
+            if (modifierList != null && !modifierList.hasModifierProperty(PsiModifier.FINAL)) {
+                field.setInitializer(null);
+                modifierList.setModifierProperty(PsiModifier.FINAL, true);
+            }
+        }
+    }
+
+    private PsiElement addOrReplaceMember(@NotNull PsiClass targetClass, @NotNull PsiMember member) {
+        final PsiMember existingMember;
+        if (member instanceof PsiMethod) {
+            existingMember = targetClass.findMethodBySignature((PsiMethod) member, false);
+        } else {
+            existingMember = targetClass.findFieldByName(member.getName(), false);
+        }
+
+        return existingMember != null ? existingMember.replace(member) : targetClass.add(member);
+    }
+
+    public void finishGeneration(@NotNull PsiClass targetClass, @NotNull List<PsiElement> insertedMembers) {
+        final List<PsiElement> shortenedMembers = new ArrayList<>(insertedMembers.size());
+        try (GenerationStats.Phase ignored = generationStats.startPhase(GenerationStats.PHASE_SHORTEN_REFERENCES)) {
+            for (PsiElement member : insertedMembers) {
+                if (member.isValid()) {
+                    shortenedMembers.add(javaCodeStyleManager.shortenClassReferences(member));
+                }
+            }
+        }
+
+        final PsiFile file = targetClass.getContainingFile();
+        try (GenerationStats.Phase ignored = generationStats.startPhase(GenerationStats.PHASE_REFORMAT)) {
+            for (PsiElement member : shortenedMembers) {
+                if (member.isValid()) {
+                    final TextRange memberRange = member.getTextRange();
+                    codeStyleManager.reformatRange(file, memberRange.getStartOffset(), memberRange.getEndOffset());
+                }
+            }
+        }
+
+        final Document document = psiDocumentManager.getDocument(file);
+        if (document != null) {
+            psiDocumentManager.doPostponedOperationsAndUnblockDocument(document);
+            psiDocumentManager.commitDocument(document);
+        }
+    }
+
+    public String renderBuilderMembers(
+            @NotNull String className, @NotNull List<FieldDescriptor> fields, @NotNull BuilderOptions options
+    ) {
+        final StringBuilder constructorText = new StringBuilder(PsiModifier.PRIVATE)
+                .append(" ")
+                .append(className)
+                .append("(");
+        final StringBuilder constructorBody = new StringBuilder();
+        final StringBuilder builderBody = new StringBuilder();
+        final StringBuilder buildArguments = new StringBuilder();
+        final StringBuilder resetBody = new StringBuilder();
+
+        if (options.isReusable()) {
+            builderBody.append(PsiModifier.PRIVATE + " " + PsiModifier.STATIC + " " + PsiModifier.FINAL + " ")
+                    .append(THREAD_LOCAL + "<" + BUILDER + "> " + REUSABLE_BUILDER + " = ")
+                    .append(PsiKeyword.NEW + " " + THREAD_LOCAL + "<" + BUILDER + ">() {\n")
+                    .append("@" + CommonClassNames.JAVA_LANG_OVERRIDE + "\n")
+                    .append(PsiModifier.PROTECTED + " " + BUILDER + " " + INITIAL_VALUE + "() {\n")
+                    .append(PsiKeyword.RETURN + " " + PsiKeyword.NEW + " " + BUILDER + "();\n}\n};\n");
+        }
+
+        for (int i = 0; i < fields.size(); i++) {
+            final FieldDescriptor field = fields.get(i);
+            final String fieldName = field.getName();
+            final String typeText = field.getTypeText();
+            if (i > 0) {
+                constructorText.append(", ");
+                buildArguments.append(", ");
+            }
+            constructorText.append(typeText).append(" ").append(fieldName);
+            constructorBody.append(createAssignment(fieldName));
+            builderBody.append(PsiModifier.PRIVATE)
+                    .append(" ")
+                    .append(typeText)
+                    .append(" ")
+                    .append(fieldName);
+            if (options.isReusable()) {
+                final String defaultValue = createDefaultValue(field);
+                builderBody.append(" = ").append(defaultValue);
+                resetBody.append(PsiKeyword.THIS + ".")
+                        .append(fieldName)
+                        .append(" = ")
+                        .append(defaultValue)
+                        .append(";\n");
+            } else if (field.getDefaultValueText() != null) {
+                builderBody.append(" = ").append(field.getDefaultValueText());
+            }
+            builderBody.append(";\n");
+            buildArguments.append(fieldName);
+        }
+
+        for (FieldDescriptor field : fields) {
+            final String fieldName = field.getName();
+            builderBody.append(PsiModifier.PUBLIC)
+                    .append(" " + BUILDER + " ")
+                    .append(SETTER_NAME_PREFIX)
+                    .append(StringUtils.capitalize(fieldName))
+                    .append("(")
+                    .append(field.getTypeText())
+                    .append(" ")
+                    .append(fieldName)
+                    .append(") {\n")
+                    .append(createAssignment(fieldName))
+                    .append(PsiKeyword.RETURN + " " + PsiKeyword.THIS + ";\n}\n");
+        }
+
+        if (options.isReusable()) {
+            builderBody.append(PsiModifier.PUBLIC + " " + PsiModifier.STATIC + " " + BUILDER + " ")
+                    .append(REUSABLE_NAME + "() {\n")
+                    .append(PsiKeyword.RETURN + " " + REUSABLE_BUILDER + ".get()." + RESET_NAME + "();\n}\n")
+                    .append(PsiModifier.PUBLIC + " " + BUILDER + " " + RESET_NAME + "() {\n")
+                    .append(resetBody)
+                    .append(PsiKeyword.RETURN + " " + PsiKeyword.THIS + ";\n}\n");
+        }
+
+        builderBody.append(PsiModifier.PUBLIC)
+                .append(" ")
+                .append(className)
+                .append(" " + BUILD_NAME_PREFIX + "() {\n")
+                .append(PsiKeyword.RETURN + " " + PsiKeyword.NEW + " ")
+                .append(className)
+                .append("(")
+                .append(buildArguments)
+                .append(");\n}\n");
+
+        constructorText.append(") {\n")
+                .append(constructorBody)
+                .append("}\n")
+                .append(PsiModifier.PUBLIC + " " + PsiModifier.STATIC + " " + PsiKeyword.CLASS + " " + BUILDER + " {\n")
+                .append(builderBody)
+                .append("}\n");
+        if (options.isValueClass()) {
+            renderValueMembers(constructorText, className, fields);
+        }
+
+        return constructorText.toString();
+    }
+
+    private void renderValueMembers(
+            @NotNull StringBuilder membersText, @NotNull String className, @NotNull List<FieldDescriptor> fields
+    ) {
+        final StringBuilder equalsConditions = new StringBuilder();
+        final StringBuilder hashCodeBody = new StringBuilder();
+        final StringBuilder toStringBody = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            final FieldDescriptor field = fields.get(i);
+            final String fieldName = PsiKeyword.THIS + "." + field.getName();
+            final String otherFieldName = OTHER + "." + field.getName();
+            if (i > 0) {
+                equalsConditions.append("\n&& ");
+                toStringBody.append(" + \", ");
+            }
+            equalsConditions.append(createEqualsCondition(field.getTypeText(), fieldName, otherFieldName));
+            hashCodeBody.append(HASH_RESULT)
+                    .append(" = ")
+                    .append(i > 0 ? "31 * " + HASH_RESULT + " + " : "")
+                    .append(createHashExpression(field.getTypeText(), fieldName))
+                    .append(";\n");
+            toStringBody.append(i > 0 ? "" : " + \"")
+                    .append(field.getName())
+                    .append("=\" + ")
+                    .append(field.getTypeText().endsWith("[]") ? ARRAYS + ".toString(" + fieldName + ")" : fieldName);
+        }
+
+        membersText.append(PsiModifier.PRIVATE + " " + PsiModifier.TRANSIENT + " " + PsiKeyword.INT + " ")
+                .append(CACHED_HASH_CODE + ";\n")
+                .append("@" + CommonClassNames.JAVA_LANG_OVERRIDE + "\n")
+                .append(PsiModifier.PUBLIC + " " + PsiKeyword.BOOLEAN + " " + EQUALS + "(")
+                .append(CommonClassNames.JAVA_LANG_OBJECT + " " + OBJECT + ") {\n")
+                .append("if (" + PsiKeyword.THIS + " == " + OBJECT + ") {\n")
+                .append(PsiKeyword.RETURN + " " + PsiKeyword.TRUE + ";\n}\n")
+                .append("if (" + OBJECT + " == " + PsiKeyword.NULL + " || getClass() != " + OBJECT + ".getClass()) {\n")
+                .append(PsiKeyword.RETURN + " " + PsiKeyword.FALSE + ";\n}\n")
+                .append(className + " " + OTHER + " = (" + className + ") " + OBJECT + ";\n")
+                .append("if (" + CACHED_HASH_CODE + " != 0 && " + OTHER + "." + CACHED_HASH_CODE + " != 0 && ")
+                .append(CACHED_HASH_CODE + " != " + OTHER + "." + CACHED_HASH_CODE + ") {\n")
+                .append(PsiKeyword.RETURN + " " + PsiKeyword.FALSE + ";\n}\n")
+                .append(PsiKeyword.RETURN + " ")
+                .append(equalsConditions.length() > 0 ? equalsConditions : PsiKeyword.TRUE)
+                .append(";\n}\n")
+                .append("@" + CommonClassNames.JAVA_LANG_OVERRIDE + "\n")
+                .append(PsiModifier.PUBLIC + " " + PsiKeyword.INT + " " + HASH_CODE + "() {\n")
+                .append(PsiKeyword.INT + " " + HASH_RESULT + " = " + CACHED_HASH_CODE + ";\n")
+                .append("if (" + HASH_RESULT + " == 0) {\n")
+                .append(hashCodeBody)
+                .append(CACHED_HASH_CODE + " = " + HASH_RESULT + ";\n}\n")
+                .append(PsiKeyword.RETURN + " " + HASH_RESULT + ";\n}\n")
+                .append("@" + CommonClassNames.JAVA_LANG_OVERRIDE + "\n")
+                .append(PsiModifier.PUBLIC + " " + CommonClassNames.JAVA_LANG_STRING + " " + TO_STRING + "() {\n")
+                .append(PsiKeyword.RETURN + " \"" + className + "{\"")
+                .append(toStringBody)
+                .append(" + \"}\";\n}\n");
+    }
+
+    private String createEqualsCondition(@NotNull String typeText, @NotNull String name, @NotNull String otherName) {
+        switch (typeText) {
+            case PsiKeyword.FLOAT:
+                return CommonClassNames.JAVA_LANG_FLOAT + ".compare(" + name + ", " + otherName + ") == 0";
+            case PsiKeyword.DOUBLE:
+                return CommonClassNames.JAVA_LANG_DOUBLE + ".compare(" + name + ", " + otherName + ") == 0";
+            case PsiKeyword.BOOLEAN:
+            case PsiKeyword.CHAR:
+            case PsiKeyword.BYTE:
+            case PsiKeyword.SHORT:
+            case PsiKeyword.INT:
+            case PsiKeyword.LONG:
+                return name + " == " + otherName;
+            default:
+                return typeText.endsWith("[]")
+                        ? ARRAYS + ".equals(" + name + ", " + otherName + ")"
+                        : OBJECTS + ".equals(" + name + ", " + otherName + ")";
+        }
+    }
+
+    private String createHashExpression(@NotNull String typeText, @NotNull String name) {
+        switch (typeText) {
+            case PsiKeyword.BOOLEAN:
+                return "(" + name + " ? 1 : 0)";
+            case PsiKeyword.CHAR:
+            case PsiKeyword.BYTE:
+            case PsiKeyword.SHORT:
+            case PsiKeyword.INT:
+                return name;
+            case PsiKeyword.LONG:
+                return "(int) (" + name + " ^ (" + name + " >>> 32))";
+            case PsiKeyword.FLOAT:
+                return CommonClassNames.JAVA_LANG_FLOAT + ".floatToIntBits(" + name + ")";
+            case PsiKeyword.DOUBLE:
+                final String bits = CommonClassNames.JAVA_LANG_DOUBLE + ".doubleToLongBits(" + name + ")";
+                return "(int) (" + bits + " ^ (" + bits + " >>> 32))";
+            default:
+                return typeText.endsWith("[]")
+                        ? ARRAYS + ".hashCode(" + name + ")"
+                        : "(" + name + " != " + PsiKeyword.NULL + " ? " + name + ".hashCode() : 0)";
+        }
+    }
+
+    private String createDefaultValue(@NotNull FieldDescriptor field) {
+        final String defaultValueText = field.getDefaultValueText();
+        if (defaultValueText != null) {
+            return defaultValueText;
+        }
+
+        switch (field.getTypeText()) {
+            case PsiKeyword.BOOLEAN:
+                return PsiKeyword.FALSE;
+            case PsiKeyword.CHAR:
+                return "'\\0'";
+            case PsiKeyword.LONG:
+                return "0L";
+            case PsiKeyword.FLOAT:
+                return "0F";
+            case PsiKeyword.DOUBLE:
+                return "0D";
+            case PsiKeyword.BYTE:
+            case PsiKeyword.SHORT:
+            case PsiKeyword.INT:
+                return "0";
+            default:
+                return PsiKeyword.NULL;
+        }
+    }
+
+    private String createAssignment(@NotNull String fieldName) {
+        return PsiKeyword.THIS + "." + fieldName + " = " + fieldName + ";\n";
+    }
+
+    private boolean containsMethod(@NotNull PsiClass parentClass, @NotNull PsiMethod targetMethod) {
+        final MethodSignature methodSignature = targetMethod.getSignature(PsiSubstitutor.EMPTY);
+        for (PsiMethod method : parentClass.findMethodsByName(targetMethod.getName(), false)) {
+            if (methodSignature.equals(method.getSignature(PsiSubstitutor.EMPTY))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public static class BuilderCandidate {
+        private final SmartPsiElementPointer<PsiClass> targetClass;
+        private final List<FieldDescriptor> fields;
+        private final BuilderOptions options;
+        private final List<String> finalFieldNames;
+
+        private BuilderCandidate(
+                @NotNull SmartPsiElementPointer<PsiClass> targetClass,
+                @NotNull List<FieldDescriptor> fields,
+                @NotNull BuilderOptions options,
+                @NotNull List<String> finalFieldNames
+        ) {
+            this.targetClass = targetClass;
+            this.fields = fields;
+            this.options = options;
+            this.finalFieldNames = finalFieldNames;
+        }
+    }
+
+    public static class BuilderMembers {
+        private final PsiMethod constructor;
+        private final PsiClass builderClass;
+        private final List<PsiMember> valueMembers;
+        private final List<String> finalFieldNames;
+
+        private BuilderMembers(
+                @NotNull PsiMethod constructor,
+                @NotNull PsiClass builderClass,
+                @NotNull List<PsiMember> valueMembers,
+                @NotNull List<String> finalFieldNames
+        ) {
+            this.constructor = constructor;
+            this.builderClass = builderClass;
+            this.valueMembers = valueMembers;
+            this.finalFieldNames = finalFieldNames;
+        }
+
+        @NotNull
+        public PsiMethod getConstructor() {
+            return constructor;
+        }
+
+        @NotNull
+        public PsiClass getBuilderClass() {
+            return builderClass;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package services;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootModificationTracker;
+import com.intellij.psi.*;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import models.BundleAccessor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import utils.PsiUtils;
+
+import java.util.*;
+
+public class BundleAccessorTable {
+
+    private static final String PARCELABLE = "android.os.Parcelable";
+    private static final String SERIALIZABLE = "java.io.Serializable";
+    private static final String CHAR_SEQUENCE = "java.lang.CharSequence";
+    private static final String ARRAY_LIST = "java.util.ArrayList";
+    private static final String STRING = "java.lang.String";
+    private static final String PARCELABLE_SUFFIX = "Parcelable";
+    private static final String PARCELABLE_ARRAY_LIST_SUFFIX = "ParcelableArrayList";
+    private static final String SERIALIZABLE_SUFFIX = "Serializable";
+    private static final String CHAR_SEQUENCE_SUFFIX = "CharSequence";
+
+    private final PlatformClassRegistry platformClassRegistry;
+    private final CachedValue<Accessors> accessors;
+
+    public BundleAccessorTable(@NotNull Project project) {
+        platformClassRegistry = PlatformClassRegistry.getInstance(project);
+        accessors = CachedValuesManager.getManager(project).createCachedValue(
+                () -> CachedValueProvider.Result.create(
+                        collectAccessors(),
+                        ProjectRootModificationTracker.getInstance(project),
+                        DumbService.getInstance(project).getModificationTracker()
+                ),
+                false
+        );
+    }
+
+    public static BundleAccessorTable getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, BundleAccessorTable.class);
+    }
+
+    public boolean isAvailable() {
+        return accessors.getValue().available;
+    }
+
+    @Nullable
+    public BundleAccessor findAccessor(@NotNull PsiType type) {
+        final Accessors bundleAccessors = accessors.getValue();
+        final BundleAccessor accessor = bundleAccessors.accessors.get(type.getCanonicalText());
+        if (accessor != null) {
+            return accessor;
+        }
+        if (!(type instanceof PsiClassType)) {
+            return null;
+        }
+
+        final String typeText = type.getCanonicalText();
+        final PsiType listItemType = findArrayListItemType((PsiClassType) type);
+        if (listItemType != null && isAssignableTo(PARCELABLE, listItemType)) {
+            return bundleAccessors.findSuffix(PARCELABLE_ARRAY_LIST_SUFFIX, typeText);
+        }
+        if (isAssignableTo(PARCELABLE, type)) {
+            return bundleAccessors.findSuffix(PARCELABLE_SUFFIX, typeText);
+        }
+        if (isAssignableTo(CHAR_SEQUENCE, type)) {
+            return bundleAccessors.findSuffix(CHAR_SEQUENCE_SUFFIX, typeText);
+        }
+        if (isAssignableTo(SERIALIZABLE, type)) {
+            return bundleAccessors.findSuffix(SERIALIZABLE_SUFFIX, typeText);
+        }
+
+        return null;
+    }
+
+    private boolean isAssignableTo(@NotNull String qualifiedName, @NotNull PsiType type) {
+        final PsiClassType classType = platformClassRegistry.getClassType(qualifiedName);
+
+        return classType != null && classType.isAssignableFrom(type);
+    }
+
+    @Nullable
+    private PsiType findArrayListItemType(@NotNull PsiClassType type) {
+        final PsiClass listClass = type.resolve();
+        final PsiType[] parameters = type.getParameters();
+        if (listClass == null || !ARRAY_LIST.equals(listClass.getQualifiedName()) || parameters.length != 1) {
+            return null;
+        }
+
+        return parameters[0] instanceof PsiWildcardType
+                ? ((PsiWildcardType) parameters[0]).getExtendsBound()
+                : parameters[0];
+    }
+
+    private Accessors collectAccessors() {
+        final PsiClass bundleClass = platformClassRegistry.findClass(AndroidService.BUNDLE);
+        if (bundleClass == null) {
+            return new Accessors(Collections.emptyMap(), Collections.emptyMap(), false);
+        }
+
+        final Map<String, String> putMethods = new HashMap<>();
+        final Map<String, String> getMethods = new HashMap<>();
+        final Set<String> defaultValueGetters = new HashSet<>();
+        for (PsiMethod method : bundleClass.getAllMethods()) {
+            final String name = method.getName();
+            final PsiParameter[] parameters = method.getParameterList().getParameters();
+            if (!method.hasModifierProperty(PsiModifier.PUBLIC)
+                    || method.hasModifierProperty(PsiModifier.STATIC)
+                    || parameters.length == 0
+                    || !STRING.equals(parameters[0].getType().getCanonicalText())) {
+                continue;
+            }
+
+            if (name.startsWith(PsiUtils.PUT) && parameters.length == 2) {
+                final String suffix = name.substring(PsiUtils.PUT.length());
+                putMethods.putIfAbsent(suffix, parameters[1].getType().getCanonicalText());
+            } else if (name.startsWith(PsiUtils.GET) && method.getReturnType() != null) {
+                if (parameters.length == 1) {
+                    getMethods.putIfAbsent(name.substring(PsiUtils.GET.length()), name);
+                } else if (parameters.length == 2
+                        && parameters[1].getType().equals(method.getReturnType())) {
+                    defaultValueGetters.add(name);
+                }
+            }
+        }
+
+        final Map<String, BundleAccessor> typeAccessors = new HashMap<>();
+        final Map<String, BundleAccessor> suffixAccessors = new HashMap<>();
+        for (Map.Entry<String, String> putMethod : putMethods.entrySet()) {
+            final String suffix = putMethod.getKey();
+            final String getMethodName = getMethods.get(suffix);
+            if (getMethodName == null) {
+                continue;
+            }
+
+            final BundleAccessor accessor = new BundleAccessor(
+                    PsiUtils.PUT + suffix,
+                    getMethodName,
+                    null,
+                    defaultValueGetters.contains(getMethodName)
+            );
+            typeAccessors.putIfAbsent(putMethod.getValue(), accessor);
+            suffixAccessors.put(suffix, accessor);
+        }
+
+        return new Accessors(typeAccessors, suffixAccessors, true);
+    }
+
+    private static class Accessors {
+        private final Map<String, BundleAccessor> accessors;
+        private final Map<String, BundleAccessor> suffixAccessors;
+        private final boolean available;
+
+        private Accessors(
+                @NotNull Map<String, BundleAccessor> accessors,
+                @NotNull Map<String, BundleAccessor> suffixAccessors,
+                boolean available
+        ) {
+            this.accessors = accessors;
+            this.suffixAccessors = suffixAccessors;
+            this.available = available;
+        }
+
+        @Nullable
+        private BundleAccessor findSuffix(@NotNull String suffix, @NotNull String castTypeText) {
+            final BundleAccessor accessor = suffixAccessors.get(suffix);
+
+            return accessor != null ? accessor.withCast(castTypeText) : null;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package services;
+
+import com.intellij.ide.util.PackageUtil;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiMethod;
+import com.intellij.util.IncorrectOperationException;
+import models.ComponentSpec;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import utils.PsiUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ComponentBatchService {
+
+    private static final String CREATE_COMPONENTS_COMMAND = "Create Android Components";
+    private static final String ALREADY_EXISTS = "already exists in ";
+    private static final String UNKNOWN_METHODS = "unknown lifecycle methods ";
+
+    private final Project project;
+
+    public ComponentBatchService(@NotNull Project project) {
+        this.project = project;
+    }
+
+    public static ComponentBatchService getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, ComponentBatchService.class);
+    }
+
+    public List<PsiClass> createComponentClasses(
+            @NotNull PsiDirectory baseDirectory, @NotNull List<ComponentSpec> specs, @NotNull List<String> failures
+    ) {
+        final List<PsiClass> componentClasses = new ArrayList<>();
+        WriteCommandAction.runWriteCommandAction(
+                project,
+                CREATE_COMPONENTS_COMMAND,
+                null,
+                () -> ManifestRegistry.getInstance(project).performBatch(
+                        () -> componentClasses.addAll(generateComponentClasses(baseDirectory, specs, failures))
+                )
+        );
+
+        return componentClasses;
+    }
+
+    public List<PsiClass> generateComponentClasses(
+            @NotNull PsiDirectory baseDirectory, @NotNull List<ComponentSpec> specs, @NotNull List<String> failures
+    ) {
+        final List<PsiClass> componentClasses = new ArrayList<>();
+        final Module module = ModuleUtilCore.findModuleForPsiElement(baseDirectory);
+        for (ComponentSpec spec : specs) {
+            final PsiDirectory directory = findComponentDirectory(module, baseDirectory, spec, failures);
+            if (directory == null) {
+                continue;
+            }
+            if (directory.findFile(spec.getName() + PsiUtils.JAVA_EXTENSION) != null) {
+                failures.add(spec.getName() + ": " + ALREADY_EXISTS + directory.getVirtualFile().getPath());
+                continue;
+            }
+
+            final AndroidService androidService = provideAndroidService(spec);
+            final List<PsiMethod> methods = androidService.provideParentComponentMethods(spec.getMethodNames());
+            final List<String> unknownMethodNames = findUnknownMethodNames(spec.getMethodNames(), methods);
+            if (!unknownMethodNames.isEmpty()) {
+                failures.add(spec.getName() + ": " + UNKNOWN_METHODS + String.join(", ", unknownMethodNames));
+                continue;
+            }
+            try {
+                componentClasses.add(androidService.generateComponentClass(directory, spec.getName(), methods, false));
+            } catch (IncorrectOperationException exception) {
+                failures.add(spec.getName() + ": " + exception.getLocalizedMessage());
+            }
+        }
+
+        return componentClasses;
+    }
+
+    private PsiDirectory findComponentDirectory(
+            @Nullable Module module,
+            @NotNull PsiDirectory baseDirectory,
+            @NotNull ComponentSpec spec,
+            @NotNull List<String> failures
+    ) {
+        final String packageName = spec.getPackageName();
+        if (packageName == null) {
+            return baseDirectory;
+        }
+
+        try {
+            return PackageUtil.findOrCreateDirectoryForPackage(module, packageName, baseDirectory, false);
+        } catch (IncorrectOperationException exception) {
+            failures.add(spec.getName() + ": " + exception.getLocalizedMessage());
+        }
+
+        return null;
+    }
+
+    private List<String> findUnknownMethodNames(@NotNull List<String> methodNames, @NotNull List<PsiMethod> methods) {
+        final List<String> unknownMethodNames = new ArrayList<>(methodNames);
+        for (PsiMethod method : methods) {
+            unknownMethodNames.removeIf(name -> name.equals(method.getName()));
+        }
+
+        return unknownMethodNames;
+    }
+
+    private AndroidService provideAndroidService(@NotNull ComponentSpec spec) {
+        switch (spec.getKind()) {
+            case ACTIVITY:
+                return ActivityService.getInstance(project);
+            case FRAGMENT:
+                return FragmentService.getInstance(project);
+            case DIALOG_FRAGMENT:
+            default:
+                return DialogFragmentService.getInstance(project);
+        }
+    }
+}
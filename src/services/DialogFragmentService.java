@@ -1,42 +1,22 @@
 package services;
 
+import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.*;
+import com.intellij.psi.util.PsiTreeUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import utils.PsiUtils;
+import utils.SourceTemplate;
 import utils.StringUtils;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class DialogFragmentService extends AndroidService {
 
-    private static final String REQUIRE_CONTEXT = "requireContext";
-    private static final String REQUIRE_FRAGMENT_MANAGER = "requireFragmentManager";
-    private static final String SUPPORT_FRAGMENT_MANAGER = "getSupportFragmentManager";
-    private static final String GET_TARGET_REQUEST_CODE = "getTargetRequestCode";
-    private static final String ALERT_DIALOG_BUILDER_NAME = "dialogBuilder";
-    private static final String DIALOG_FRAGMENT_NAME = "dialogFragment";
-    private static final String DIALOG_FRAGMENT_TAG = "dialogFragmentTag";
-    private static final String FRAGMENT_MANAGER_NAME = "fragmentManager";
-
-    private static final String BUILDER_CLASS_NAME = "Builder";
-    private static final String CREATE_METHOD = "create";
-    private static final String TARGET_ACTIVITY = "targetActivity";
-    private static final String REQUIRE_ACTIVITY = "requireActivity";
-    private static final String TARGET_FRAGMENT = "targetFragment";
-    private static final String DIALOG_INTERFACE = "DialogFragmentInterface";
-    private static final String DIALOG_INTERFACE_NAME = "dialogFragmentInterface";
-    private static final String ON_POSITIVE_BUTTON_CLICKED = "onPositiveButtonClicked";
-    private static final String ON_NEUTRAL_BUTTON_CLICKED = "onNeutralButtonClicked";
-    private static final String ON_NEGATIVE_BUTTON_CLICKED = "onNegativeButtonClicked";
-    private static final String GET_ARGUMENTS = "getArguments";
-    private static final String SET_ARGUMENTS = "setArguments";
-    private static final String SHOW_DIALOG = "showDialog";
-    private static final String SHOW = "show";
-
-    private static final String BUNDLE_INSTANCE = "new Bundle()";
     private static final String ARGUMENTS = "arguments";
     private static final String ARG_CANCELABLE = "ARG_CANCELABLE";
     private static final String ARG_TITLE_ID = "ARG_TITLE_ID";
@@ -64,9 +44,133 @@ public class DialogFragmentService extends AndroidService {
     private static final String NEGATIVE_BUTTON = "negativeButton";
     private static final String NEGATIVE_BUTTON_ID = "negativeButtonId";
     private static final String VIEW_RES_ID = "viewResId";
+    private static final String ON_POSITIVE_BUTTON_CLICKED = "onPositiveButtonClicked";
+    private static final String ON_NEUTRAL_BUTTON_CLICKED = "onNeutralButtonClicked";
+    private static final String ON_NEGATIVE_BUTTON_CLICKED = "onNegativeButtonClicked";
 
-    private static final String BUTTON_LAMBDA_DIALOG = "dialog";
-    private static final String BUTTON_LAMBDA_WHICH = "which";
+    private static final String CLASS_NAME_PLACEHOLDER = "CLASS_NAME";
+    private static final String TAG_CONSTANT_PLACEHOLDER = "TAG_CONSTANT";
+    private static final String TAG_VALUE_PLACEHOLDER = "TAG_VALUE";
+    private static final String ARGUMENT_CONSTANTS_PLACEHOLDER = "ARGUMENT_CONSTANTS";
+    private static final String BUILDER_SETTERS_PLACEHOLDER = "BUILDER_SETTERS";
+    private static final String ON_CREATE_DIALOG_SIGNATURE_PLACEHOLDER = "ON_CREATE_DIALOG_SIGNATURE";
+    private static final String TEXT_CONTENT_PLACEHOLDER = "TEXT_CONTENT";
+    private static final String BUTTONS_PLACEHOLDER = "BUTTONS";
+    private static final String KEY_PLACEHOLDER = "KEY";
+    private static final String VALUE_PLACEHOLDER = "VALUE";
+    private static final String SETTER_PLACEHOLDER = "SETTER";
+    private static final String ANNOTATION_PLACEHOLDER = "ANNOTATION";
+    private static final String TYPE_PLACEHOLDER = "TYPE";
+    private static final String NAME_PLACEHOLDER = "NAME";
+    private static final String PUT_STATEMENT_PLACEHOLDER = "PUT_STATEMENT";
+    private static final String ID_DECLARATION_PLACEHOLDER = "ID_DECLARATION";
+    private static final String ID_PLACEHOLDER = "ID";
+    private static final String TEXT_DECLARATION_PLACEHOLDER = "TEXT_DECLARATION";
+    private static final String TEXT_PLACEHOLDER = "TEXT";
+    private static final String CALLBACK_PLACEHOLDER = "CALLBACK";
+
+    private static final SourceTemplate DIALOG_FRAGMENT_TEMPLATE = SourceTemplate.compile(
+            "public ${CLASS_NAME}() {\n"
+                    + "}\n"
+                    + "public interface DialogFragmentInterface {\n"
+                    + "public void " + ON_POSITIVE_BUTTON_CLICKED + "();\n"
+                    + "public void " + ON_NEUTRAL_BUTTON_CLICKED + "();\n"
+                    + "public void " + ON_NEGATIVE_BUTTON_CLICKED + "();\n"
+                    + "}\n"
+                    + "${ARGUMENT_CONSTANTS}"
+                    + "public static final String ${TAG_CONSTANT} = \"${TAG_VALUE}\";\n"
+                    + "public static class Builder {\n"
+                    + "private final " + ANDROIDX_ACTIVITY + " targetActivity;\n"
+                    + "private final " + ANDROIDX_FRAGMENT + " targetFragment;\n"
+                    + "private final " + BUNDLE + " " + ARGUMENTS + " = new " + BUNDLE + "();\n"
+                    + "public Builder(@" + ANDROIDX_NON_NULL + " " + ANDROIDX_ACTIVITY + " targetActivity) {\n"
+                    + "this.targetActivity = targetActivity;\n"
+                    + "targetFragment = null;\n"
+                    + "}\n"
+                    + "public Builder(@" + ANDROIDX_NON_NULL + " " + ANDROIDX_FRAGMENT + " targetFragment) {\n"
+                    + "this.targetFragment = targetFragment;\n"
+                    + "targetActivity = null;\n"
+                    + "}\n"
+                    + "${BUILDER_SETTERS}"
+                    + "public ${CLASS_NAME} create() {\n"
+                    + "${CLASS_NAME} dialogFragment = new ${CLASS_NAME}();\n"
+                    + "dialogFragment.setArguments(" + ARGUMENTS + ");\n"
+                    + "if (targetFragment != null) {\n"
+                    + "dialogFragment.setTargetFragment(targetFragment, dialogFragment.getTargetRequestCode());\n"
+                    + "}\n"
+                    + "return dialogFragment;\n"
+                    + "}\n"
+                    + "public void showDialog(@" + ANDROIDX_NULLABLE + " String " + TAG + ") {\n"
+                    + "if (targetFragment == null && targetActivity == null) {\n"
+                    + "return;\n"
+                    + "}\n"
+                    + ANDROIDX_FRAGMENT_MANAGER + " fragmentManager = targetFragment != null"
+                    + " ? targetFragment.requireFragmentManager() : targetActivity.getSupportFragmentManager();\n"
+                    + "String dialogFragmentTag = " + TAG + " != null ? " + TAG + " : ${TAG_CONSTANT};\n"
+                    + "${CLASS_NAME} dialogFragment = new ${CLASS_NAME}();\n"
+                    + "dialogFragment.setArguments(" + ARGUMENTS + ");\n"
+                    + "if (targetFragment != null) {\n"
+                    + "dialogFragment.setTargetFragment(targetFragment, dialogFragment.getTargetRequestCode());\n"
+                    + "}\n"
+                    + "dialogFragment.show(fragmentManager, dialogFragmentTag);\n"
+                    + "}\n"
+                    + "}\n"
+                    + "${ON_CREATE_DIALOG_SIGNATURE} {\n"
+                    + ANDROIDX_ALERT_DIALOG_BUILDER + " dialogBuilder = new "
+                    + ANDROIDX_ALERT_DIALOG_BUILDER + "(requireContext());\n"
+                    + BUNDLE + " " + ARGUMENTS + " = getArguments();\n"
+                    + "if (" + ARGUMENTS + " != null) {\n"
+                    + "${TEXT_CONTENT}"
+                    + "DialogFragmentInterface dialogFragmentInterface;\n"
+                    + "if (requireActivity() instanceof DialogFragmentInterface) {\n"
+                    + "dialogFragmentInterface = (DialogFragmentInterface) requireActivity();\n"
+                    + "} else if (getTargetFragment() instanceof DialogFragmentInterface) {\n"
+                    + "dialogFragmentInterface = (DialogFragmentInterface) getTargetFragment();\n"
+                    + "} else {\n"
+                    + "dialogFragmentInterface = null;\n"
+                    + "}\n"
+                    + "${BUTTONS}"
+                    + "}\n"
+                    + "return dialogBuilder.create();\n"
+                    + "}\n"
+    );
+    private static final SourceTemplate ARGUMENT_CONSTANT_TEMPLATE = SourceTemplate.compile(
+            "private static final String ${KEY} = \"${VALUE}\";\n"
+    );
+    private static final SourceTemplate BUILDER_SETTER_TEMPLATE = SourceTemplate.compile(
+            "public Builder ${SETTER}(${ANNOTATION}${TYPE} ${NAME}) {\n"
+                    + "${PUT_STATEMENT}"
+                    + "return this;\n"
+                    + "}\n"
+    );
+    private static final SourceTemplate TEXT_CONTENT_TEMPLATE = SourceTemplate.compile(
+            "${ID_DECLARATION}"
+                    + "if (${ID} != 0) {\n"
+                    + "dialogBuilder.${SETTER}(${ID});\n"
+                    + "} else {\n"
+                    + "${TEXT_DECLARATION}"
+                    + "if (!" + TEXT_UTILS + ".isEmpty(${TEXT})) {\n"
+                    + "dialogBuilder.${SETTER}(${TEXT});\n"
+                    + "}\n"
+                    + "}\n"
+    );
+    private static final SourceTemplate BUTTON_TEMPLATE = SourceTemplate.compile(
+            "${ID_DECLARATION}"
+                    + "if (${ID} != 0) {\n"
+                    + "dialogBuilder.${SETTER}(${ID}, (dialog, which) -> {\n"
+                    + "if (dialogFragmentInterface != null) {\n"
+                    + "dialogFragmentInterface.${CALLBACK}();\n"
+                    + "}\n"
+                    + "});\n"
+                    + "} else {\n"
+                    + "${TEXT_DECLARATION}"
+                    + "dialogBuilder.${SETTER}(${TEXT}, (dialog, which) -> {\n"
+                    + "if (dialogFragmentInterface != null) {\n"
+                    + "dialogFragmentInterface.${CALLBACK}();\n"
+                    + "}\n"
+                    + "});\n"
+                    + "}\n"
+    );
 
     protected static final String[] DIALOG_FRAGMENT_METHOD_NAMES = {
             ON_CREATE_DIALOG,
@@ -76,18 +180,12 @@ public class DialogFragmentService extends AndroidService {
             ON_DISMISS
     };
 
-    private static DialogFragmentService instance;
-
-    private DialogFragmentService(@NotNull Project project) {
+    public DialogFragmentService(@NotNull Project project) {
         super(project, ANDROIDX_DIALOG_FRAGMENT);
     }
 
     public static DialogFragmentService getInstance(@NotNull Project project) {
-        if (instance == null) {
-            instance = new DialogFragmentService(project);
-        }
-
-        return instance;
+        return ServiceManager.getService(project, DialogFragmentService.class);
     }
 
     @Override
@@ -97,18 +195,16 @@ public class DialogFragmentService extends AndroidService {
 
     @Override
     protected List<PsiMethod> createComponentMethods(
-            @NotNull PsiClass dialogFragmentClass, @NotNull List<PsiMethod> methods
+            @NotNull PsiClass dialogFragmentClass, @NotNull List<PsiMethod> methods, boolean viewBinding
     ) {
         final List<PsiMethod> generatedMethods = new ArrayList<>();
         for (PsiMethod method : methods) {
             switch (method.getName()) {
                 case ON_CREATE_DIALOG:
-                    dialogFragmentClass.add(psiUtils.createConstructor(
-                            dialogFragmentClass, PsiModifier.PUBLIC, null)
-                    );
-                    dialogFragmentClass.add(createDialogFragmentInterface());
-                    dialogFragmentClass.add(createDialogFragmentBuilder(dialogFragmentClass));
-                    generatedMethods.add(overrideOnCreateDialogMethod(method));
+                    final PsiMethod onCreateDialogMethod = addDialogFragmentMembers(dialogFragmentClass, method);
+                    if (onCreateDialogMethod != null) {
+                        generatedMethods.add(onCreateDialogMethod);
+                    }
                     break;
                 case ON_START:
                 case ON_SAVE_INSTANCE_STATE:
@@ -122,738 +218,204 @@ public class DialogFragmentService extends AndroidService {
         return generatedMethods;
     }
 
-    private PsiMethod overrideOnCreateDialogMethod(@NotNull PsiMethod componentMethod) {
-        final PsiMethod onCreateDialogMethod = psiUtils.overrideMethod(componentMethod, false);
-        final PsiCodeBlock codeBlock = onCreateDialogMethod.getBody();
+    private PsiMethod addDialogFragmentMembers(
+            @NotNull PsiClass dialogFragmentClass, @NotNull PsiMethod onCreateDialogMethod
+    ) {
+        final String dialogFragmentName = dialogFragmentClass.getName();
+        if (dialogFragmentName == null) {
+            return null;
+        }
 
-        if (codeBlock != null) {
-            applyDialogBuilderArguments(codeBlock);
-            addDialogBuilderReturnStatement(codeBlock);
+        final String dialogFragmentText;
+        try (GenerationStats.Phase ignored = generationStats.startPhase(GenerationStats.PHASE_RENDER_TEXT)) {
+            dialogFragmentText = renderDialogFragment(dialogFragmentName, onCreateDialogMethod);
+        }
+        final PsiClass templateClass = elementFactory.createClassFromText(dialogFragmentText, dialogFragmentClass);
+        generationStats.countParse();
+
+        PsiMethod generatedOnCreateDialog = null;
+        for (PsiMember member : PsiTreeUtil.getChildrenOfTypeAsList(templateClass, PsiMember.class)) {
+            if (member instanceof PsiMethod && ON_CREATE_DIALOG.equals(member.getName())) {
+                generatedOnCreateDialog = (PsiMethod) member;
+            } else {
+                dialogFragmentClass.add(member);
+                generationStats.countInsertion();
+            }
         }
 
-        return onCreateDialogMethod;
+        return generatedOnCreateDialog;
     }
 
-    private void applyDialogBuilderArguments(@NotNull PsiCodeBlock onCreateDialogMethodBody) {
-        final PsiClass alertDialogBuilderClass = javaFacade.findClass(ANDROIDX_ALERT_DIALOG_BUILDER, globalSearchScope);
-        final PsiClass bundleClass = javaFacade.findClass(BUNDLE, globalSearchScope);
-
-        if (alertDialogBuilderClass != null && bundleClass != null) {
-            final PsiType alertDialogBuilderType = elementFactory.createType(alertDialogBuilderClass);
-            final PsiType bundleType = elementFactory.createType(bundleClass);
-
-            final String requireContextCall = psiUtils.createMethodCall(
-                    REQUIRE_CONTEXT, null, null, false
-            );
-            final List<String> createDialogParams = new ArrayList<>();
-            createDialogParams.add(requireContextCall);
-            final PsiStatement createAlertDialogBuilder = psiUtils.createVariable(
-                    alertDialogBuilderType, ALERT_DIALOG_BUILDER_NAME, createDialogParams
-            );
-            onCreateDialogMethodBody.add(createAlertDialogBuilder);
-
-            final String getArgumentsMethodCall = psiUtils.createMethodCall(
-                    GET_ARGUMENTS, null, null, false
-            );
-            final PsiExpression getArgumentsExpression = elementFactory.createExpressionFromText(
-                    getArgumentsMethodCall, null
-            );
-            final PsiStatement getArgumentsStatement = psiUtils.createVariable(
-                    getArgumentsExpression, bundleType, ARGUMENTS
-            );
-            onCreateDialogMethodBody.add(getArgumentsStatement);
-
-            final String argumentsCheckText = ARGUMENTS + "!=" + PsiKeyword.NULL;
-            final PsiExpression argumentsCheck = elementFactory.createExpressionFromText(
-                    argumentsCheckText, null
-            );
-            final List<PsiStatement> argumentsIfBranch = new ArrayList<>();
-
-            addDialogTextContent(argumentsIfBranch, ARG_TITLE_ID, TITLE_ID, ARG_TITLE, TITLE);
-            addDialogTextContent(argumentsIfBranch, ARG_MESSAGE_ID, MESSAGE_ID, ARG_MESSAGE, MESSAGE);
-            addDialogButtonListeners(argumentsIfBranch);
-            final PsiIfStatement setArgumentsBlock = psiUtils.createIfStatement(
-                    argumentsCheck, argumentsIfBranch, null
-            );
-
-            onCreateDialogMethodBody.add(setArgumentsBlock);
+    private String renderDialogFragment(@NotNull String dialogFragmentName, @NotNull PsiMethod onCreateDialogMethod) {
+        final String dialogTagName = StringUtils.convertCamelToSnake(dialogFragmentName, null, TAG, true);
+        final List<DialogArgument> dialogArguments = createDialogArguments();
+
+        final StringBuilder argumentConstants = new StringBuilder();
+        final StringBuilder builderSetters = new StringBuilder();
+        final Map<String, String> values = new HashMap<>();
+        for (DialogArgument argument : dialogArguments) {
+            values.put(KEY_PLACEHOLDER, argument.key);
+            values.put(VALUE_PLACEHOLDER, argument.key.toLowerCase());
+            ARGUMENT_CONSTANT_TEMPLATE.render(argumentConstants, values);
+
+            final String putCall = createPutToBundleCall(ARGUMENTS, argument.type, argument.name, argument.key);
+            values.put(SETTER_PLACEHOLDER, PsiUtils.SET + StringUtils.capitalize(argument.name));
+            values.put(ANNOTATION_PLACEHOLDER, argument.annotation != null ? "@" + argument.annotation + " " : "");
+            values.put(TYPE_PLACEHOLDER, argument.type.getCanonicalText());
+            values.put(NAME_PLACEHOLDER, argument.name);
+            values.put(PUT_STATEMENT_PLACEHOLDER, putCall != null ? putCall + ";\n" : "");
+            BUILDER_SETTER_TEMPLATE.render(builderSetters, values);
         }
+
+        final StringBuilder textContent = new StringBuilder();
+        renderDialogText(textContent, TITLE_ID, ARG_TITLE_ID, TITLE, ARG_TITLE);
+        renderDialogText(textContent, MESSAGE_ID, ARG_MESSAGE_ID, MESSAGE, ARG_MESSAGE);
+
+        final StringBuilder buttons = new StringBuilder();
+        renderDialogButton(
+                buttons,
+                ON_POSITIVE_BUTTON_CLICKED,
+                POSITIVE_BUTTON_ID,
+                ARG_POSITIVE_BUTTON_TEXT_ID,
+                POSITIVE_BUTTON,
+                ARG_POSITIVE_BUTTON_TEXT
+        );
+        renderDialogButton(
+                buttons,
+                ON_NEUTRAL_BUTTON_CLICKED,
+                NEUTRAL_BUTTON_ID,
+                ARG_NEUTRAL_BUTTON_TEXT_ID,
+                NEUTRAL_BUTTON,
+                ARG_NEUTRAL_BUTTON_TEXT
+        );
+        renderDialogButton(
+                buttons,
+                ON_NEGATIVE_BUTTON_CLICKED,
+                NEGATIVE_BUTTON_ID,
+                ARG_NEGATIVE_BUTTON_TEXT_ID,
+                NEGATIVE_BUTTON,
+                ARG_NEGATIVE_BUTTON_TEXT
+        );
+
+        values.clear();
+        values.put(CLASS_NAME_PLACEHOLDER, dialogFragmentName);
+        values.put(TAG_CONSTANT_PLACEHOLDER, dialogTagName);
+        values.put(TAG_VALUE_PLACEHOLDER, dialogTagName.toLowerCase());
+        values.put(ARGUMENT_CONSTANTS_PLACEHOLDER, argumentConstants.toString());
+        values.put(BUILDER_SETTERS_PLACEHOLDER, builderSetters.toString());
+        values.put(ON_CREATE_DIALOG_SIGNATURE_PLACEHOLDER, psiUtils.createOverrideSignature(onCreateDialogMethod));
+        values.put(TEXT_CONTENT_PLACEHOLDER, textContent.toString());
+        values.put(BUTTONS_PLACEHOLDER, buttons.toString());
+
+        return DIALOG_FRAGMENT_TEMPLATE.render(values);
     }
 
-    private void addDialogTextContent(
-            @NotNull List<PsiStatement> argumentsBlockStatements,
-            @NotNull String textIdKey,
+    private void renderDialogText(
+            @NotNull StringBuilder textContent,
             @NotNull String textId,
-            @NotNull String textKey,
-            @NotNull String text
+            @NotNull String textIdKey,
+            @NotNull String text,
+            @NotNull String textKey
     ) {
-        final PsiStatement getStringIdStatement = createGetFromBundleVariable(
-                ARGUMENTS, PsiType.INT, textId, textIdKey, "0"
-        );
-        argumentsBlockStatements.add(getStringIdStatement);
-
-        final String setConditionText = textId + " != " + "0";
-        final PsiExpression setCondition = elementFactory.createExpressionFromText(setConditionText, null);
-        final List<String> setTextIdParams = new ArrayList<>();
-        setTextIdParams.add(textId);
-
-        final List<PsiStatement> setTextIfBranch = new ArrayList<>();
-        final List<PsiStatement> setTextElseBranch = new ArrayList<>();
-        final String setContentName = PsiUtils.SET + StringUtils.capitalize(text);
-        final String setTextId = psiUtils.createMethodCall(
-                setContentName, setTextIdParams, ALERT_DIALOG_BUILDER_NAME, false
-        );
-        final PsiStatement setTextIdStatement = elementFactory.createStatementFromText(
-                setTextId + ";", null
-        );
-        setTextIfBranch.add(setTextIdStatement);
-
-        final PsiStatement getTextStatement = createGetFromBundleVariable(
-                ARGUMENTS, psiUtils.getStringType(), text, textKey, null
-        );
-        setTextElseBranch.add(getTextStatement);
-
-        final PsiExpression textIsEmptyCheck = textIsEmptyCheck(text, true);
-        final List<String> setTextParams = new ArrayList<>();
-        setTextParams.add(text);
-        final String setText = psiUtils.createMethodCall(
-                setContentName, setTextParams, ALERT_DIALOG_BUILDER_NAME, false
-        );
-        final PsiStatement setTextStatement = elementFactory.createStatementFromText(
-                setText + ";", null
-        );
-        final PsiIfStatement ifTextNotEmpty = psiUtils.createIfStatement(
-                textIsEmptyCheck, setTextStatement, null
-        );
-        setTextElseBranch.add(ifTextNotEmpty);
-
-        final PsiStatement textContentStatement = psiUtils.createIfStatement(
-                setCondition, setTextIfBranch, setTextElseBranch
-        );
-        argumentsBlockStatements.add(textContentStatement);
+        TEXT_CONTENT_TEMPLATE.render(textContent, createDialogTextValues(textId, textIdKey, text, textKey));
     }
 
-    private void addDialogButtonListeners(@NotNull List<PsiStatement> argumentsBlockStatements) {
-        argumentsBlockStatements.addAll(createDialogInterfaceReference());
-        argumentsBlockStatements.addAll(
-                createDialogButton(
-                        ON_POSITIVE_BUTTON_CLICKED,
-                        POSITIVE_BUTTON,
-                        POSITIVE_BUTTON_ID,
-                        ARG_POSITIVE_BUTTON_TEXT_ID,
-                        POSITIVE_BUTTON,
-                        ARG_POSITIVE_BUTTON_TEXT
-                ));
-        argumentsBlockStatements.addAll(
-                createDialogButton(
-                        ON_NEUTRAL_BUTTON_CLICKED,
-                        NEUTRAL_BUTTON,
-                        NEUTRAL_BUTTON_ID,
-                        ARG_NEUTRAL_BUTTON_TEXT_ID,
-                        NEUTRAL_BUTTON,
-                        ARG_NEUTRAL_BUTTON_TEXT
-                ));
-        argumentsBlockStatements.addAll(
-                createDialogButton(
-                        ON_NEGATIVE_BUTTON_CLICKED,
-                        NEGATIVE_BUTTON,
-                        NEGATIVE_BUTTON_ID,
-                        ARG_NEGATIVE_BUTTON_TEXT_ID,
-                        NEGATIVE_BUTTON,
-                        ARG_NEGATIVE_BUTTON_TEXT
-                ));
-    }
-
-    private List<PsiStatement> createDialogButton(
+    private void renderDialogButton(
+            @NotNull StringBuilder buttons,
             @NotNull String dialogInterfaceMethodName,
-            @NotNull String dialogButtonType,
             @NotNull String buttonTextId,
             @NotNull String textIdKey,
             @NotNull String buttonText,
             @NotNull String textKey
     ) {
-        final List<PsiStatement> buttonStatements = new ArrayList<>();
-        final PsiStatement getStringIdStatement = createGetFromBundleVariable(
-                ARGUMENTS, PsiType.INT, buttonTextId, textIdKey, "0"
-        );
-        buttonStatements.add(getStringIdStatement);
-
-        final List<String> lambdaParams = new ArrayList<>();
-        final List<PsiStatement> lambdaStatements = new ArrayList<>();
-        lambdaParams.add(BUTTON_LAMBDA_DIALOG);
-        lambdaParams.add(BUTTON_LAMBDA_WHICH);
-
-        final String dialogInterfaceConditionText = DIALOG_INTERFACE_NAME + " != " + PsiKeyword.NULL;
-        final PsiExpression dialogInterfaceCondition = elementFactory.createExpressionFromText(
-                dialogInterfaceConditionText, null
-        );
-        final String dialogInterfaceMethodCallText = psiUtils.createMethodCall(
-                dialogInterfaceMethodName, null, DIALOG_INTERFACE_NAME, false
-        ) + ";";
-        final PsiStatement dialogInterfaceMethodCall = elementFactory.createStatementFromText(
-                dialogInterfaceMethodCallText, null
-        );
-        final PsiIfStatement dialogInterfaceStatement = psiUtils.createIfStatement(
-                dialogInterfaceCondition, dialogInterfaceMethodCall, null
-        );
-        lambdaStatements.add(dialogInterfaceStatement);
-        final String lambda = psiUtils.createLambda(lambdaParams, lambdaStatements);
-
-        final String setButtonMethodName = PsiUtils.SET + StringUtils.capitalize(dialogButtonType);
-
-        final List<String> setButtonTextIdParams = new ArrayList<>();
-        setButtonTextIdParams.add(buttonTextId);
-        setButtonTextIdParams.add(lambda);
-
-        final List<String> setButtonTextParams = new ArrayList<>();
-        setButtonTextParams.add(buttonText);
-        setButtonTextParams.add(lambda);
-
-        final PsiExpression checkButtonId = elementFactory.createExpressionFromText(
-                buttonTextId + " != 0", null
-        );
-
-        final List<PsiStatement> setButtonIfBranch = new ArrayList<>();
-        final List<PsiStatement> setButtonElseBranch = new ArrayList<>();
-
-        final String setButtonTextIdCall = psiUtils.createMethodCall(
-                setButtonMethodName, setButtonTextIdParams, ALERT_DIALOG_BUILDER_NAME, false
-        ) + ";";
-        setButtonIfBranch.add(elementFactory.createStatementFromText(setButtonTextIdCall, null));
-
-        final PsiStatement getStringStatement = createGetFromBundleVariable(
-                ARGUMENTS, psiUtils.getStringType(), buttonText, textKey, null
-        );
-        setButtonElseBranch.add(getStringStatement);
-        final String setButtonTextCall = psiUtils.createMethodCall(
-                setButtonMethodName, setButtonTextParams, ALERT_DIALOG_BUILDER_NAME, false
-        ) + ";";
-        setButtonElseBranch.add(elementFactory.createStatementFromText(setButtonTextCall, null));
-
-        final PsiIfStatement setButtonBlock = psiUtils.createIfStatement(
-                checkButtonId, setButtonIfBranch, setButtonElseBranch
-        );
-        buttonStatements.add(setButtonBlock);
-
-        return buttonStatements;
-    }
-
-    private List<PsiStatement> createDialogInterfaceReference() {
-        final List<PsiStatement> initializationStatements = new ArrayList<>();
-
-        final PsiClass dialogInterface = elementFactory.createClass(DIALOG_INTERFACE);
-        final PsiType dialogInterfaceType = elementFactory.createType(dialogInterface);
-        final PsiStatement dialogInterfaceVariable = psiUtils.createVariable(
-                null, dialogInterfaceType, DIALOG_INTERFACE_NAME
-        );
-        initializationStatements.add(dialogInterfaceVariable);
-
-        final String requireActivityCall = psiUtils.createMethodCall(
-                REQUIRE_ACTIVITY, null, null, false
-        );
-        final PsiExpression dialogInterfaceIfExpression = psiUtils.createInstanceOfExpression(
-                requireActivityCall, DIALOG_INTERFACE
-        );
-        final PsiStatement dialogInterfaceIfBranch = psiUtils.createClassCastStatement(
-                DIALOG_INTERFACE, DIALOG_INTERFACE_NAME, requireActivityCall
-        );
-
-        final String targetFragmentCall = psiUtils.createMethodCall(
-                PsiUtils.GET + StringUtils.capitalize(TARGET_FRAGMENT),
-                null,
-                null,
-                false
-        );
-        final PsiExpression dialogInterfaceElseIfExpression = psiUtils.createInstanceOfExpression(
-                targetFragmentCall, DIALOG_INTERFACE
-        );
-        final PsiStatement dialogInterfaceElseIfBranch = psiUtils.createClassCastStatement(
-                DIALOG_INTERFACE, DIALOG_INTERFACE_NAME, targetFragmentCall
-        );
-        final PsiStatement dialogInterfaceElseBranch = elementFactory.createStatementFromText(
-                DIALOG_INTERFACE_NAME + " = null;", null
-        );
-
-        final PsiStatement dialogInterfaceInitialization = psiUtils.createIfStatement(
-                dialogInterfaceIfExpression,
-                dialogInterfaceIfBranch,
-                dialogInterfaceElseIfExpression,
-                dialogInterfaceElseIfBranch,
-                dialogInterfaceElseBranch
-        );
-        initializationStatements.add(dialogInterfaceInitialization);
-
-        return initializationStatements;
+        final Map<String, String> values = createDialogTextValues(buttonTextId, textIdKey, buttonText, textKey);
+        values.put(CALLBACK_PLACEHOLDER, dialogInterfaceMethodName);
+        BUTTON_TEMPLATE.render(buttons, values);
     }
 
-    private void addDialogBuilderReturnStatement(@NotNull PsiCodeBlock onCreateDialogMethodBody) {
-        final String createMethodCall = psiUtils.createMethodCall(
-                CREATE_METHOD, null, null, false
-        );
-        final String returnStatementText
-                = PsiKeyword.RETURN + " " + ALERT_DIALOG_BUILDER_NAME + "." + createMethodCall + ";";
-        onCreateDialogMethodBody.add(elementFactory.createStatementFromText(returnStatementText, null));
-    }
-
-    private PsiClass createDialogFragmentInterface() {
-        final PsiClass dialogListener = elementFactory.createInterface(DIALOG_INTERFACE);
-        final PsiMethod onPositiveButtonClicked = psiUtils.createInterfaceMethod(
-                ON_POSITIVE_BUTTON_CLICKED, PsiType.VOID, null
-        );
-        final PsiMethod onNeutralButtonClicked = psiUtils.createInterfaceMethod(
-                ON_NEUTRAL_BUTTON_CLICKED, PsiType.VOID, null
-        );
-        final PsiMethod onNegativeButtonClicked = psiUtils.createInterfaceMethod(
-                ON_NEGATIVE_BUTTON_CLICKED, PsiType.VOID, null
-        );
-        dialogListener.add(onPositiveButtonClicked);
-        dialogListener.add(onNeutralButtonClicked);
-        dialogListener.add(onNegativeButtonClicked);
-
-        return dialogListener;
-    }
-
-    private PsiClass createDialogFragmentBuilder(@NotNull PsiClass dialogFragmentClass) {
-        final PsiClass builderClass = elementFactory.createClass(BUILDER_CLASS_NAME);
-        final PsiModifierList builderClassModifiers = builderClass.getModifierList();
-        if (builderClassModifiers != null) {
-            builderClassModifiers.setModifierProperty(PsiModifier.PUBLIC, true);
-            builderClassModifiers.setModifierProperty(PsiModifier.STATIC, true);
-        }
-
-        addDialogBuilderConstructors(builderClass);
-        addDialogBuilderSetters(dialogFragmentClass, builderClass);
-        builderClass.add(createDialogMethod(dialogFragmentClass));
-        builderClass.add(createShowDialogMethod(dialogFragmentClass));
-
-        return builderClass;
-    }
-
-    private PsiMethod createBuilderConstructor(@NotNull PsiClass builderClass, @NotNull PsiClass componentClass) {
-        final PsiClass activityClass = javaFacade.findClass(ANDROIDX_ACTIVITY, globalSearchScope);
-        final PsiClass fragmentClass = javaFacade.findClass(ANDROIDX_FRAGMENT, globalSearchScope);
-        final PsiType componentType = elementFactory.createType(componentClass);
-        final PsiParameter componentParameter;
-        final String primaryComponent;
-        final String secondaryComponent;
-
-        if (componentClass.isEquivalentTo(activityClass)) {
-            componentParameter = elementFactory.createParameter(TARGET_ACTIVITY, componentType);
-            primaryComponent = TARGET_ACTIVITY;
-            secondaryComponent = TARGET_FRAGMENT;
-        } else if (componentClass.isEquivalentTo(fragmentClass)) {
-            componentParameter = elementFactory.createParameter(TARGET_FRAGMENT, componentType);
-            primaryComponent = TARGET_FRAGMENT;
-            secondaryComponent = TARGET_ACTIVITY;
-        } else {
-            return elementFactory.createConstructor();
-        }
-
-        psiUtils.addAnnotation(componentParameter, ANDROIDX_NON_NULL);
-        final List<PsiParameter> parameters = new ArrayList<>();
-        parameters.add(componentParameter);
-        final PsiMethod constructor = psiUtils.createConstructor(builderClass, PsiModifier.PUBLIC, parameters);
-
-        final List<PsiStatement> fieldInitializationList = new ArrayList<>();
-        fieldInitializationList.add(psiUtils.createFieldInitialization(primaryComponent, primaryComponent));
-        fieldInitializationList.add(psiUtils.createFieldInitialization(secondaryComponent, null));
-
-        psiUtils.addMethodBody(constructor, fieldInitializationList);
-
-        return constructor;
-    }
-
-    private PsiMethod createBuilderSetter(
-            @Nullable PsiType returnType,
-            @NotNull PsiType argumentType,
-            @NotNull String argumentName,
-            @NotNull String argumentKey,
-            @Nullable String annotation
+    private Map<String, String> createDialogTextValues(
+            @NotNull String textId,
+            @NotNull String textIdKey,
+            @NotNull String text,
+            @NotNull String textKey
     ) {
-        final PsiParameter setterParameter = elementFactory.createParameter(argumentName, argumentType);
-        if (annotation != null) {
-            psiUtils.addAnnotation(setterParameter, annotation);
-        }
-        final String setterName = PsiUtils.SET + StringUtils.capitalize(argumentName);
-        final PsiMethod setter = psiUtils.createMethod(
-                setterName, PsiModifier.PUBLIC, returnType, new PsiParameter[] {setterParameter}
-                );
-        final List<PsiStatement> setterStatements = new ArrayList<>();
-        setterStatements.add(createPutToBundleStatement(ARGUMENTS, argumentType, argumentName, argumentKey));
-        setterStatements.add(
-                elementFactory.createStatementFromText(
-                        PsiKeyword.RETURN + " " + PsiKeyword.THIS + ";", null
+        final Map<String, String> values = new HashMap<>();
+        values.put(ID_PLACEHOLDER, textId);
+        values.put(TEXT_PLACEHOLDER, text);
+        values.put(SETTER_PLACEHOLDER, PsiUtils.SET + StringUtils.capitalize(text));
+        values.put(
+                ID_DECLARATION_PLACEHOLDER,
+                createVariableDeclaration(
+                        PsiType.INT, textId, createGetFromBundleCall(ARGUMENTS, PsiType.INT, textIdKey, "0")
                 )
         );
-        psiUtils.addMethodBody(setter, setterStatements);
-
-        return setter;
-    }
-
-    private PsiMethod createDialogMethod(@NotNull PsiClass dialogFragmentClass) {
-        final PsiType dialogFragmentType = elementFactory.createType(dialogFragmentClass);
-        final PsiMethod createDialogMethod = psiUtils.createMethod(
-                CREATE_METHOD, PsiModifier.PUBLIC, dialogFragmentType, null
+        final PsiType stringType = psiUtils.getStringType();
+        values.put(
+                TEXT_DECLARATION_PLACEHOLDER,
+                createVariableDeclaration(
+                        stringType, text, createGetFromBundleCall(ARGUMENTS, stringType, textKey, null)
+                )
         );
-        final PsiCodeBlock methodBody = createDialogMethod.getBody();
-        if (methodBody != null) {
-            final PsiStatement createDialogFragment = psiUtils.createVariable(
-                    dialogFragmentType, DIALOG_FRAGMENT_NAME, null
-            );
-            methodBody.add(createDialogFragment);
-
-            final List<String> setArgumentsParams = new ArrayList<>();
-            setArgumentsParams.add(ARGUMENTS);
-            final String setArguments = psiUtils.createMethodCall(
-                    SET_ARGUMENTS, setArgumentsParams, DIALOG_FRAGMENT_NAME, false
-            ) + ";";
-            final PsiStatement setArgumentsStatement = elementFactory.createStatementFromText(
-                    setArguments, null
-            );
-            methodBody.add(setArgumentsStatement);
-
-            final String getTargetRequestCode = psiUtils.createMethodCall(
-                    GET_TARGET_REQUEST_CODE, null, DIALOG_FRAGMENT_NAME, false
-            );
-            final String setTargetFragmentName = PsiUtils.SET + StringUtils.capitalize(TARGET_FRAGMENT);
-            final List<String> setTargetFragmentParams = new ArrayList<>();
-            setTargetFragmentParams.add(TARGET_FRAGMENT);
-            setTargetFragmentParams.add(getTargetRequestCode);
-            final PsiExpression targetFragmentCondition = elementFactory.createExpressionFromText(
-                    TARGET_FRAGMENT + " != " + PsiKeyword.NULL, null
-            );
-            final String setTargetFragmentMethodText = psiUtils.createMethodCall(
-                    setTargetFragmentName, setTargetFragmentParams, DIALOG_FRAGMENT_NAME, false
-            );
-            final PsiStatement setTargetFragmentMethod = elementFactory.createStatementFromText(
-                    setTargetFragmentMethodText + ";", null
-            );
-            final PsiIfStatement setTargetFragmentStatement = psiUtils.createIfStatement(
-                    targetFragmentCondition, setTargetFragmentMethod, null
-            );
-            methodBody.add(setTargetFragmentStatement);
-
-            final String returnStatementText = PsiKeyword.RETURN + " " + DIALOG_FRAGMENT_NAME + ";";
-            final PsiStatement returnStatement = elementFactory.createStatementFromText(
-                    returnStatementText, null
-            );
-            methodBody.add(returnStatement);
-        }
-
-        return createDialogMethod;
-    }
-
-    private PsiMethod createShowDialogMethod(@NotNull PsiClass dialogFragmentClass) {
-        final PsiType dialogFragmentType = elementFactory.createType(dialogFragmentClass);
-        final PsiParameter tagParameter = elementFactory.createParameter(TAG, psiUtils.getStringType());
-        psiUtils.addAnnotation(tagParameter, ANDROIDX_NULLABLE);
-        final PsiMethod method = psiUtils.createMethod(
-                SHOW_DIALOG, PsiModifier.PUBLIC, PsiType.VOID, new PsiParameter[]{tagParameter}
-                );
-
-        final String dialogFragmentClassName = dialogFragmentClass.getName();
-        if (dialogFragmentClassName != null) {
-            final String dialogTagName = StringUtils.convertCamelToSnake(
-                    dialogFragmentClassName, null, TAG, true
-            );
-            dialogFragmentClass.add(
-                    psiUtils.createConstantString(dialogTagName, dialogTagName.toLowerCase(), PsiModifier.PUBLIC)
-            );
-
-            final PsiCodeBlock methodBody = method.getBody();
-            if (methodBody != null) {
-                final PsiExpression nullCheckCondition = elementFactory.createExpressionFromText(
-                        TARGET_FRAGMENT
-                            + " == "
-                            + PsiKeyword.NULL
-                            + " && "
-                            + TARGET_ACTIVITY
-                            + " == "
-                            + PsiKeyword.NULL,
-                null
-                );
-                final PsiStatement checkConditionIfBranch = elementFactory.createStatementFromText(
-                        PsiKeyword.RETURN + ";", null
-                );
-                final PsiIfStatement nullCheckStatement = psiUtils.createIfStatement(
-                        nullCheckCondition, checkConditionIfBranch, null
-                );
-                methodBody.add(nullCheckStatement);
-
-                final PsiClass fragmentManagerClass = javaFacade.findClass(
-                        ANDROIDX_FRAGMENT_MANAGER, globalSearchScope
-                );
-                final String targetFragmentConditionText = TARGET_FRAGMENT + " != " + PsiKeyword.NULL;
-                if (fragmentManagerClass != null) {
-                    final PsiType fragmentManagerType = elementFactory.createType(fragmentManagerClass);
-                    final String requireFragmentManager = psiUtils.createMethodCall(
-                            REQUIRE_FRAGMENT_MANAGER, null, TARGET_FRAGMENT, false
-                    );
-                    final String supportFragmentManager = psiUtils.createMethodCall(
-                            SUPPORT_FRAGMENT_MANAGER, null, TARGET_ACTIVITY, false
-                    );
-
-                    final PsiExpression fragmentManagerInitializer = psiUtils.createTernaryExpression(
-                            targetFragmentConditionText, requireFragmentManager, supportFragmentManager
-                    );
-                    final PsiStatement createFragmentManager = psiUtils.createVariable(
-                            fragmentManagerInitializer, fragmentManagerType, FRAGMENT_MANAGER_NAME
-                    );
-                    methodBody.add(createFragmentManager);
-                }
-
-                final String tagCondition = TAG + " != " + PsiKeyword.NULL;
-                final PsiExpression tagInitializer = psiUtils.createTernaryExpression(
-                        tagCondition, TAG, dialogTagName
-                );
-                final PsiStatement dialogFragmentTag = psiUtils.createVariable(
-                        tagInitializer, psiUtils.getStringType(), DIALOG_FRAGMENT_TAG
-                );
-                methodBody.add(dialogFragmentTag);
-
-                final PsiStatement createDialogFragment = psiUtils.createVariable(
-                        dialogFragmentType, DIALOG_FRAGMENT_NAME, null
-                );
-                methodBody.add(createDialogFragment);
-
-                final List<String> setArgumentsParams = new ArrayList<>();
-                setArgumentsParams.add(ARGUMENTS);
-                final String setArguments = psiUtils.createMethodCall(
-                        SET_ARGUMENTS, setArgumentsParams, DIALOG_FRAGMENT_NAME, false
-                ) + ";";
-                final PsiStatement setArgumentsStatement = elementFactory.createStatementFromText(
-                        setArguments, null
-                );
-                methodBody.add(setArgumentsStatement);
-
-                final String getTargetRequestCode = psiUtils.createMethodCall(
-                        GET_TARGET_REQUEST_CODE, null, DIALOG_FRAGMENT_NAME, false
-                );
-                final String setTargetFragmentName = PsiUtils.SET + StringUtils.capitalize(TARGET_FRAGMENT);
-                final List<String> setTargetFragmentParams = new ArrayList<>();
-                setTargetFragmentParams.add(TARGET_FRAGMENT);
-                setTargetFragmentParams.add(getTargetRequestCode);
-                final String setTargetFragmentMethodText = psiUtils.createMethodCall(
-                        setTargetFragmentName, setTargetFragmentParams, DIALOG_FRAGMENT_NAME, false
-                );
-                final PsiStatement setTargetFragmentMethodCall = elementFactory.createStatementFromText(
-                        setTargetFragmentMethodText + ";", null
-                );
-                final PsiExpression targetFragmentCondition = elementFactory.createExpressionFromText(
-                        targetFragmentConditionText, null
-                );
-                final PsiIfStatement setTargetFragmentStatement = psiUtils.createIfStatement(
-                        targetFragmentCondition, setTargetFragmentMethodCall, null
-                );
-                methodBody.add(setTargetFragmentStatement);
-
-                final List<String> showDialogParams = new ArrayList<>();
-                showDialogParams.add(FRAGMENT_MANAGER_NAME);
-                showDialogParams.add(DIALOG_FRAGMENT_TAG);
-                final String showDialogFragment = psiUtils.createMethodCall(
-                        SHOW, showDialogParams, DIALOG_FRAGMENT_NAME, false
-                ) + ";";
-                final PsiStatement showDialogFragmentStatement = elementFactory.createStatementFromText(
-                        showDialogFragment, null
-                );
-                methodBody.add(showDialogFragmentStatement);
-            }
-        }
 
-        return method;
+        return values;
     }
 
-    private void addDialogBuilderConstructors(@NotNull PsiClass builderClass) {
-        final PsiClass activityClass = javaFacade.findClass(ANDROIDX_ACTIVITY, globalSearchScope);
-        final PsiClass fragmentClass = javaFacade.findClass(ANDROIDX_FRAGMENT, globalSearchScope);
-        final PsiClass bundleClass = javaFacade.findClass(BUNDLE, globalSearchScope);
-
-        if (activityClass == null || fragmentClass == null || bundleClass == null) {
-            return;
-        }
-
-        final List<String> builderFieldModifiers = new ArrayList<>();
-        builderFieldModifiers.add(PsiModifier.FINAL);
-        final List<FieldData> fieldDataList = new ArrayList<>();
-
-        fieldDataList.add(
-                new FieldData(
-                        elementFactory.createType(activityClass),
-                        builderFieldModifiers,
-                        TARGET_ACTIVITY,
-                        null
-                )
-        );
-        fieldDataList.add(
-                new FieldData(
-                        elementFactory.createType(fragmentClass),
-                        builderFieldModifiers,
-                        TARGET_FRAGMENT,
-                        null
-                )
-        );
-        final PsiExpression bundleInitializer = elementFactory.createExpressionFromText(BUNDLE_INSTANCE, builderClass);
-        fieldDataList.add(
-                new FieldData(
-                        elementFactory.createType(bundleClass),
-                        builderFieldModifiers,
-                        ARGUMENTS,
-                        bundleInitializer
-                )
-        );
-
-        for (FieldData fieldData : fieldDataList) {
-            builderClass.add(
-                    psiUtils.createField(
-                            fieldData.fieldType,
-                            fieldData.modifiers,
-                            fieldData.filedName,
-                            fieldData.initializer
-                    )
-            );
+    private String createVariableDeclaration(
+            @NotNull PsiType type, @NotNull String name, @Nullable String initializer
+    ) {
+        if (initializer == null) {
+            return "";
         }
 
-        final PsiMethod primaryConstructor = createBuilderConstructor(builderClass, activityClass);
-        final PsiMethod secondaryConstructor = createBuilderConstructor(builderClass, fragmentClass);
-
-        builderClass.add(primaryConstructor);
-        builderClass.add(secondaryConstructor);
+        return type.getCanonicalText() + " " + name + " = " + initializer + ";\n";
     }
 
-    private void addDialogBuilderSetters(@NotNull PsiClass dialogFragmentClass, @NotNull PsiClass builderClass) {
-        final PsiType builderType = elementFactory.createType(builderClass);
-        final List<SetterData> setterDataList = new ArrayList<>();
-
-        setterDataList.add(new SetterData(builderType, PsiType.INT, TITLE, ARG_TITLE_ID, ANDROIDX_STRING_RES));
-        setterDataList.add(new SetterData(builderType, psiUtils.getStringType(), TITLE, ARG_TITLE, ANDROIDX_NULLABLE));
-        setterDataList.add(new SetterData(builderType, PsiType.INT, MESSAGE, ARG_MESSAGE_ID, ANDROIDX_STRING_RES));
-        setterDataList.add(
-                new SetterData(builderType, psiUtils.getStringType(), MESSAGE, ARG_MESSAGE, ANDROIDX_NULLABLE)
+    private List<DialogArgument> createDialogArguments() {
+        final PsiType stringType = psiUtils.getStringType();
+        final List<DialogArgument> dialogArguments = new ArrayList<>();
+        dialogArguments.add(new DialogArgument(PsiType.INT, TITLE, ARG_TITLE_ID, ANDROIDX_STRING_RES));
+        dialogArguments.add(new DialogArgument(stringType, TITLE, ARG_TITLE, ANDROIDX_NULLABLE));
+        dialogArguments.add(new DialogArgument(PsiType.INT, MESSAGE, ARG_MESSAGE_ID, ANDROIDX_STRING_RES));
+        dialogArguments.add(new DialogArgument(stringType, MESSAGE, ARG_MESSAGE, ANDROIDX_NULLABLE));
+        dialogArguments.add(
+                new DialogArgument(PsiType.INT, POSITIVE_BUTTON, ARG_POSITIVE_BUTTON_TEXT_ID, ANDROIDX_STRING_RES)
         );
-        setterDataList.add(
-                new SetterData(builderType,
-                        PsiType.INT,
-                        POSITIVE_BUTTON,
-                        ARG_POSITIVE_BUTTON_TEXT_ID,
-                        ANDROIDX_STRING_RES
-                )
-        );
-        setterDataList.add(
-                new SetterData(
-                        builderType,
-                        psiUtils.getStringType(),
-                        POSITIVE_BUTTON,
-                        ARG_POSITIVE_BUTTON_TEXT,
-                        ANDROIDX_NULLABLE
-                )
-        );
-        setterDataList.add(
-                new SetterData(
-                        builderType,
-                        PsiType.INT,
-                        NEUTRAL_BUTTON,
-                        ARG_NEUTRAL_BUTTON_TEXT_ID,
-                        ANDROIDX_STRING_RES
-                )
-        );
-        setterDataList.add(
-                new SetterData(
-                        builderType,
-                        psiUtils.getStringType(),
-                        NEUTRAL_BUTTON,
-                        ARG_NEUTRAL_BUTTON_TEXT,
-                        ANDROIDX_NULLABLE
-                )
+        dialogArguments.add(
+                new DialogArgument(stringType, POSITIVE_BUTTON, ARG_POSITIVE_BUTTON_TEXT, ANDROIDX_NULLABLE)
         );
-        setterDataList.add(
-                new SetterData(
-                        builderType,
-                        PsiType.INT,
-                        NEGATIVE_BUTTON,
-                        ARG_NEGATIVE_BUTTON_TEXT_ID,
-                        ANDROIDX_STRING_RES
-                )
+        dialogArguments.add(
+                new DialogArgument(PsiType.INT, NEUTRAL_BUTTON, ARG_NEUTRAL_BUTTON_TEXT_ID, ANDROIDX_STRING_RES)
         );
-        setterDataList.add(
-                new SetterData(
-                        builderType,
-                        psiUtils.getStringType(),
-                        NEGATIVE_BUTTON,
-                        ARG_NEGATIVE_BUTTON_TEXT,
-                        ANDROIDX_NULLABLE
-                )
+        dialogArguments.add(
+                new DialogArgument(stringType, NEUTRAL_BUTTON, ARG_NEUTRAL_BUTTON_TEXT, ANDROIDX_NULLABLE)
         );
-        setterDataList.add(
-                new SetterData(
-                        builderType,
-                        PsiType.BOOLEAN,
-                        CANCELABLE,
-                        ARG_CANCELABLE,
-                        null
-                )
+        dialogArguments.add(
+                new DialogArgument(PsiType.INT, NEGATIVE_BUTTON, ARG_NEGATIVE_BUTTON_TEXT_ID, ANDROIDX_STRING_RES)
         );
-        setterDataList.add(
-                new SetterData(
-                        builderType,
-                        PsiType.INT,
-                        VIEW_RES_ID,
-                        ARG_VIEW_RES_ID,
-                        ANDROIDX_LAYOUT_RES
-                )
+        dialogArguments.add(
+                new DialogArgument(stringType, NEGATIVE_BUTTON, ARG_NEGATIVE_BUTTON_TEXT, ANDROIDX_NULLABLE)
         );
+        dialogArguments.add(new DialogArgument(PsiType.BOOLEAN, CANCELABLE, ARG_CANCELABLE, null));
+        dialogArguments.add(new DialogArgument(PsiType.INT, VIEW_RES_ID, ARG_VIEW_RES_ID, ANDROIDX_LAYOUT_RES));
 
-        for (SetterData setterData : setterDataList) {
-            final String key = setterData.argumentKey;
-            dialogFragmentClass.add(psiUtils.createConstantString(key, key.toLowerCase()));
-            builderClass.add(
-                    createBuilderSetter(
-                            setterData.returnType,
-                            setterData.argumentType,
-                            setterData.argumentName,
-                            key,
-                            setterData.annotation
-                    )
-            );
-        }
-    }
-
-    private static class FieldData {
-        private final PsiType fieldType;
-        private final List<String> modifiers;
-        private final String filedName;
-        private final PsiExpression initializer;
-
-        private FieldData(
-                @NotNull PsiType fieldType,
-                @Nullable List<String> modifiers,
-                @NotNull String fieldName,
-                @Nullable PsiExpression initializer
-        ) {
-            this.fieldType = fieldType;
-            this.modifiers = modifiers;
-            this.filedName = fieldName;
-            this.initializer = initializer;
-        }
+        return dialogArguments;
     }
 
-    private static class SetterData {
-        private final PsiType returnType;
-        private final PsiType argumentType;
-        private final String argumentName;
-        private final String argumentKey;
+    private static class DialogArgument {
+        private final PsiType type;
+        private final String name;
+        private final String key;
         private final String annotation;
 
-        private SetterData(
-                @Nullable PsiType returnType,
-                @NotNull PsiType argumentType,
-                @NotNull String argumentName,
-                @NotNull String argumentKey,
+        private DialogArgument(
+                @NotNull PsiType type,
+                @NotNull String name,
+                @NotNull String key,
                 @Nullable String annotation
         ) {
-            this.returnType = returnType;
-            this.argumentType = argumentType;
-            this.argumentName = argumentName;
-            this.argumentKey = argumentKey;
+            this.type = type;
+            this.name = name;
+            this.key = key;
             this.annotation = annotation;
         }
     }
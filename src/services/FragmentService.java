@@ -1,11 +1,12 @@
 package services;
 
+import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.*;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class FragmentService extends AndroidService {
@@ -18,18 +19,12 @@ public class FragmentService extends AndroidService {
             ON_PAUSE, ON_STOP, ON_DESTROY_VIEW
     };
 
-    private static FragmentService instance;
-
-    private FragmentService(@NotNull Project project) {
+    public FragmentService(@NotNull Project project) {
         super(project, ANDROIDX_FRAGMENT);
     }
 
     public static FragmentService getInstance(@NotNull Project project) {
-        if (instance == null) {
-            instance = new FragmentService(project);
-        }
-
-        return instance;
+        return ServiceManager.getService(project, FragmentService.class);
     }
 
     @Override
@@ -37,22 +32,36 @@ public class FragmentService extends AndroidService {
         return FRAGMENT_METHOD_NAMES;
     }
 
+    @Override
+    protected String provideLayoutPrefix() {
+        return FRAGMENT_TAG;
+    }
+
     @Override
     protected List<PsiMethod> createComponentMethods(
-            @NotNull PsiClass componentClass, @NotNull List<PsiMethod> methods
+            @NotNull PsiClass componentClass, @NotNull List<PsiMethod> methods, boolean viewBinding
     ) {
         final List<PsiMethod> generatedMethods = new ArrayList<>();
-        for (PsiMethod method : methods) {
+        final List<PsiMethod> componentMethods = new ArrayList<>(methods);
+        if (viewBinding && !containsMethod(componentMethods, ON_CREATE_VIEW)) {
+            componentMethods.addAll(0, provideParentComponentMethods(Collections.singletonList(ON_CREATE_VIEW)));
+        }
+        if (viewBinding && !containsMethod(componentMethods, ON_DESTROY_VIEW)) {
+            componentMethods.addAll(provideParentComponentMethods(Collections.singletonList(ON_DESTROY_VIEW)));
+        }
+        for (PsiMethod method : componentMethods) {
             switch (method.getName()) {
                 case ON_CREATE_VIEW:
-                    generatedMethods.add(overrideOnCreateViewMethod(method, componentClass.getName()));
+                    generatedMethods.add(overrideOnCreateViewMethod(method, componentClass, viewBinding));
+                    break;
+                case ON_DESTROY_VIEW:
+                    generatedMethods.add(overrideOnDestroyViewMethod(method, viewBinding));
                     break;
                 case ON_START:
                 case ON_RESUME:
                 case ON_SAVE_INSTANCE_STATE:
                 case ON_PAUSE:
                 case ON_STOP:
-                case ON_DESTROY_VIEW:
                     generatedMethods.add(psiUtils.overrideMethod(method));
             }
         }
@@ -60,24 +69,60 @@ public class FragmentService extends AndroidService {
         return generatedMethods;
     }
 
-    private PsiMethod overrideOnCreateViewMethod(@NotNull PsiMethod componentMethod, @Nullable String fragmentName) {
+    private boolean containsMethod(@NotNull List<PsiMethod> methods, @NotNull String name) {
+        for (PsiMethod method : methods) {
+            if (name.equals(method.getName())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private PsiMethod overrideOnDestroyViewMethod(@NotNull PsiMethod componentMethod, boolean viewBinding) {
+        final PsiMethod onDestroyViewMethod = psiUtils.overrideMethod(componentMethod);
+        final PsiCodeBlock codeBlock = onDestroyViewMethod.getBody();
+        if (viewBinding && codeBlock != null) {
+            codeBlock.add(psiUtils.createStatementFromText(
+                    BINDING + " = " + PsiKeyword.NULL + ";", onDestroyViewMethod
+            ));
+        }
+
+        return onDestroyViewMethod;
+    }
+
+    private PsiMethod overrideOnCreateViewMethod(
+            @NotNull PsiMethod componentMethod, @NotNull PsiClass componentClass, boolean viewBinding
+    ) {
         final PsiMethod onCreateViewMethod = psiUtils.overrideMethod(componentMethod, false);
+        final String fragmentName = componentClass.getName();
         if(fragmentName != null) {
-            createComponentLayout(fragmentName, FRAGMENT_TAG);
+            createComponentLayout(componentClass, fragmentName, FRAGMENT_TAG);
             final PsiParameter[] parameters = onCreateViewMethod.getParameterList().getParameters();
             final String inflaterName = parameters[0].getName();
             final String containerName = parameters[1].getName();
             final PsiCodeBlock codeBlock = onCreateViewMethod.getBody();
-            if (codeBlock != null) {
+            final String fragmentLayoutName = createComponentLayoutName(fragmentName, FRAGMENT_TAG);
+            if (codeBlock != null && viewBinding) {
+                final String bindingClassName = addViewBindingField(componentClass, fragmentLayoutName);
+                codeBlock.add(psiUtils.createStatementFromText(
+                        BINDING + " = " + bindingClassName + ".inflate("
+                                + inflaterName + ", " + containerName + ", false);",
+                        onCreateViewMethod
+                ));
+                codeBlock.add(psiUtils.createStatementFromText(
+                        PsiKeyword.RETURN + " " + BINDING + "." + GET_ROOT + "();", onCreateViewMethod
+                ));
+            } else if (codeBlock != null) {
                 final String returnText = PsiKeyword.RETURN
                         + " "
                         + inflaterName
                         + ".inflate(R.layout."
-                        + createComponentLayoutName(fragmentName, FRAGMENT_TAG)
+                        + fragmentLayoutName
                         + ", "
                         + containerName
                         + ", false);";
-                final PsiStatement returnStatement = elementFactory.createStatementFromText(
+                final PsiStatement returnStatement = psiUtils.createStatementFromText(
                         returnText, onCreateViewMethod
                 );
                 codeBlock.add(returnStatement);
@@ -0,0 +1,129 @@
+package services;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class GenerationStats {
+
+    public static final String PHASE_COLLECT_FIELDS = "Collect fields";
+    public static final String PHASE_CREATE_CLASS = "Create class";
+    public static final String PHASE_FIND_CLASS = "Find class";
+    public static final String PHASE_CREATE_METHODS = "Create methods";
+    public static final String PHASE_CREATE_LAYOUT = "Create layout";
+    public static final String PHASE_REGISTER_COMPONENT = "Register component";
+    public static final String PHASE_OPEN_FILE = "Open file";
+    public static final String PHASE_RENDER_TEXT = "Render text";
+    public static final String PHASE_INSERT_MEMBERS = "Insert members";
+    public static final String PHASE_SHORTEN_REFERENCES = "Shorten references";
+    public static final String PHASE_REFORMAT = "Reformat";
+
+    private static final Logger LOG = Logger.getInstance(GenerationStats.class);
+
+    private final Map<String, PhaseStats> phases = new LinkedHashMap<>();
+    private final AtomicLong parseCount = new AtomicLong();
+    private final AtomicLong insertionCount = new AtomicLong();
+    private volatile boolean logPhases;
+
+    public static GenerationStats getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, GenerationStats.class);
+    }
+
+    public Phase startPhase(@NotNull String name) {
+        return new Phase(name, System.nanoTime());
+    }
+
+    public void countParse() {
+        parseCount.incrementAndGet();
+    }
+
+    public void countInsertion() {
+        insertionCount.incrementAndGet();
+    }
+
+    public void countInsertions(int count) {
+        insertionCount.addAndGet(count);
+    }
+
+    public long getParseCount() {
+        return parseCount.get();
+    }
+
+    public long getInsertionCount() {
+        return insertionCount.get();
+    }
+
+    public boolean isLogPhases() {
+        return logPhases;
+    }
+
+    public void setLogPhases(boolean logPhases) {
+        this.logPhases = logPhases;
+    }
+
+    public synchronized void reset() {
+        phases.clear();
+        parseCount.set(0);
+        insertionCount.set(0);
+    }
+
+    public synchronized String createReport() {
+        final StringBuilder report = new StringBuilder()
+                .append("PSI parses: ").append(parseCount.get()).append("\n")
+                .append("Tree insertions: ").append(insertionCount.get()).append("\n");
+        for (Map.Entry<String, PhaseStats> entry : phases.entrySet()) {
+            final PhaseStats phaseStats = entry.getValue();
+            report.append(entry.getKey())
+                    .append(": ")
+                    .append(phaseStats.count)
+                    .append(" runs, total ")
+                    .append(TimeUnit.NANOSECONDS.toMillis(phaseStats.totalNanos))
+                    .append(" ms, max ")
+                    .append(TimeUnit.NANOSECONDS.toMillis(phaseStats.maxNanos))
+                    .append(" ms\n");
+        }
+
+        return report.toString();
+    }
+
+    public void writeReportToLog() {
+        LOG.info("Generation stats:\n" + createReport());
+    }
+
+    private synchronized void recordPhase(@NotNull String name, long elapsedNanos) {
+        final PhaseStats phaseStats = phases.computeIfAbsent(name, key -> new PhaseStats());
+        phaseStats.count++;
+        phaseStats.totalNanos += elapsedNanos;
+        phaseStats.maxNanos = Math.max(phaseStats.maxNanos, elapsedNanos);
+        if (logPhases) {
+            LOG.info(name + " took " + TimeUnit.NANOSECONDS.toMicros(elapsedNanos) + " us");
+        }
+    }
+
+    public class Phase implements AutoCloseable {
+        private final String name;
+        private final long startNanos;
+
+        private Phase(@NotNull String name, long startNanos) {
+            this.name = name;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void close() {
+            recordPhase(name, System.nanoTime() - startNanos);
+        }
+    }
+
+    private static class PhaseStats {
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+    }
+}
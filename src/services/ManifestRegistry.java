@@ -0,0 +1,270 @@
+package services;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootModificationTracker;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.XmlElementFactory;
+import com.intellij.psi.codeStyle.CodeStyleManager;
+import com.intellij.psi.search.FilenameIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.xml.XmlFile;
+import com.intellij.psi.xml.XmlTag;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+public class ManifestRegistry {
+
+    private static final String ANDROID_MANIFEST = "AndroidManifest.xml";
+    private static final String MAIN_SOURCE_SET = "/src/main/";
+    private static final String APPLICATION_TAG = "application";
+    private static final String NAME_ATTRIBUTE = "android:name";
+    private static final String PACKAGE_ATTRIBUTE = "package";
+
+    private final Project project;
+    private final XmlElementFactory xmlElementFactory;
+    private final CodeStyleManager codeStyleManager;
+    private final CachedValue<ModuleManifests> moduleManifests;
+    private final Map<XmlFile, List<PendingRegistration>> pendingRegistrations = new LinkedHashMap<>();
+    private int batchDepth;
+
+    public ManifestRegistry(@NotNull Project project) {
+        this.project = project;
+        xmlElementFactory = XmlElementFactory.getInstance(project);
+        codeStyleManager = CodeStyleManager.getInstance(project);
+        moduleManifests = CachedValuesManager.getManager(project).createCachedValue(
+                () -> CachedValueProvider.Result.create(
+                        collectModuleManifests(),
+                        VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS,
+                        ProjectRootModificationTracker.getInstance(project)
+                ),
+                false
+        );
+    }
+
+    public static ManifestRegistry getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, ManifestRegistry.class);
+    }
+
+    @Nullable
+    public XmlFile findManifest(@NotNull PsiElement element) {
+        final ModuleManifests manifests = moduleManifests.getValue();
+        final Module module = ModuleUtilCore.findModuleForPsiElement(element);
+        final XmlFile moduleManifest = module != null ? manifests.manifests.get(module) : null;
+        if (moduleManifest != null && moduleManifest.isValid()) {
+            return moduleManifest;
+        }
+
+        return manifests.defaultManifest != null && manifests.defaultManifest.isValid()
+                ? manifests.defaultManifest
+                : null;
+    }
+
+    @Nullable
+    public String getManifestPackage(@NotNull XmlFile manifest) {
+        final XmlTag manifestTag = manifest.getRootTag();
+
+        return manifestTag != null ? manifestTag.getAttributeValue(PACKAGE_ATTRIBUTE) : null;
+    }
+
+    public Set<String> getDeclaredComponents(@NotNull XmlFile manifest) {
+        return CachedValuesManager.getCachedValue(
+                manifest,
+                () -> CachedValueProvider.Result.create(collectDeclaredComponents(manifest), manifest)
+        );
+    }
+
+    public boolean isDeclared(@NotNull XmlFile manifest, @NotNull String qualifiedName) {
+        return getDeclaredComponents(manifest).contains(qualifiedName);
+    }
+
+    @Nullable
+    public XmlTag findDeclaration(@NotNull XmlFile manifest, @NotNull String qualifiedName) {
+        final XmlTag manifestTag = manifest.getRootTag();
+        final XmlTag applicationTag = manifestTag != null ? manifestTag.findFirstSubTag(APPLICATION_TAG) : null;
+        if (applicationTag == null || !isDeclared(manifest, qualifiedName)) {
+            return null;
+        }
+
+        final String manifestPackage = getManifestPackage(manifest);
+        for (XmlTag componentTag : applicationTag.getSubTags()) {
+            final String name = componentTag.getAttributeValue(NAME_ATTRIBUTE);
+            if (name != null && qualifiedName.equals(createQualifiedName(manifestPackage, name))) {
+                return componentTag;
+            }
+        }
+
+        return null;
+    }
+
+    public void register(@NotNull PsiClass componentClass, @NotNull String componentTag) {
+        final String qualifiedName = componentClass.getQualifiedName();
+        final XmlFile manifest = findManifest(componentClass);
+        if (qualifiedName == null || manifest == null) {
+            return;
+        }
+
+        pendingRegistrations.computeIfAbsent(manifest, key -> new ArrayList<>())
+                .add(new PendingRegistration(componentTag, qualifiedName));
+        if (batchDepth == 0) {
+            flush();
+        }
+    }
+
+    public void performBatch(@NotNull Runnable registrations) {
+        batchDepth++;
+        try {
+            registrations.run();
+        } finally {
+            batchDepth--;
+            if (batchDepth == 0) {
+                flush();
+            }
+        }
+    }
+
+    private void flush() {
+        for (Map.Entry<XmlFile, List<PendingRegistration>> entry : pendingRegistrations.entrySet()) {
+            writeRegistrations(entry.getKey(), entry.getValue());
+        }
+        pendingRegistrations.clear();
+    }
+
+    private void writeRegistrations(@NotNull XmlFile manifest, @NotNull List<PendingRegistration> registrations) {
+        final XmlTag manifestTag = manifest.getRootTag();
+        final XmlTag applicationTag = manifestTag != null ? manifestTag.findFirstSubTag(APPLICATION_TAG) : null;
+        if (applicationTag == null) {
+            return;
+        }
+
+        final String manifestPackage = getManifestPackage(manifest);
+        final Set<String> declaredComponents = new HashSet<>(getDeclaredComponents(manifest));
+        final StringBuilder componentTags = new StringBuilder();
+        for (PendingRegistration registration : registrations) {
+            if (declaredComponents.add(registration.qualifiedName)) {
+                componentTags.append("<")
+                        .append(registration.componentTag)
+                        .append(" " + NAME_ATTRIBUTE + "=\"")
+                        .append(createComponentName(manifestPackage, registration.qualifiedName))
+                        .append("\"/>");
+            }
+        }
+        if (componentTags.length() == 0) {
+            return;
+        }
+
+        final XmlTag componentsHolder = xmlElementFactory.createTagFromText(
+                "<" + APPLICATION_TAG + ">" + componentTags + "</" + APPLICATION_TAG + ">"
+        );
+        GenerationStats.getInstance(project).countParse();
+        GenerationStats.getInstance(project).countInsertion();
+        final XmlTag[] componentTagList = componentsHolder.getSubTags();
+        final PsiElement firstAdded = applicationTag.addRange(
+                componentTagList[0], componentTagList[componentTagList.length - 1]
+        );
+        final PsiElement lastAdded = applicationTag.getSubTags()[applicationTag.getSubTags().length - 1];
+        codeStyleManager.reformatRange(
+                applicationTag, firstAdded.getTextRange().getStartOffset(), lastAdded.getTextRange().getEndOffset()
+        );
+    }
+
+    private ModuleManifests collectModuleManifests() {
+        final Map<Module, XmlFile> manifests = new HashMap<>();
+        XmlFile defaultManifest = null;
+        final PsiFile[] files = FilenameIndex.getFilesByName(
+                project, ANDROID_MANIFEST, GlobalSearchScope.projectScope(project)
+        );
+        for (PsiFile file : files) {
+            if (!(file instanceof XmlFile)) {
+                continue;
+            }
+
+            final XmlFile manifest = (XmlFile) file;
+            if (defaultManifest == null || isMainManifest(manifest) && !isMainManifest(defaultManifest)) {
+                defaultManifest = manifest;
+            }
+            final Module module = ModuleUtilCore.findModuleForPsiElement(manifest);
+            if (module != null) {
+                final XmlFile moduleManifest = manifests.get(module);
+                if (moduleManifest == null || isMainManifest(manifest) && !isMainManifest(moduleManifest)) {
+                    manifests.put(module, manifest);
+                }
+            }
+        }
+
+        return new ModuleManifests(manifests, defaultManifest);
+    }
+
+    private Set<String> collectDeclaredComponents(@NotNull XmlFile manifest) {
+        final Set<String> declaredComponents = new HashSet<>();
+        final XmlTag manifestTag = manifest.getRootTag();
+        final XmlTag applicationTag = manifestTag != null ? manifestTag.findFirstSubTag(APPLICATION_TAG) : null;
+        if (applicationTag != null) {
+            final String manifestPackage = getManifestPackage(manifest);
+            for (XmlTag componentTag : applicationTag.getSubTags()) {
+                final String name = componentTag.getAttributeValue(NAME_ATTRIBUTE);
+                if (name != null) {
+                    declaredComponents.add(createQualifiedName(manifestPackage, name));
+                }
+            }
+        }
+
+        return Collections.unmodifiableSet(declaredComponents);
+    }
+
+    private boolean isMainManifest(@NotNull XmlFile manifest) {
+        final VirtualFile file = manifest.getVirtualFile();
+
+        return file != null && file.getPath().contains(MAIN_SOURCE_SET);
+    }
+
+    private String createQualifiedName(@Nullable String manifestPackage, @NotNull String name) {
+        if (manifestPackage == null || manifestPackage.isEmpty()) {
+            return name;
+        }
+        if (name.startsWith(".")) {
+            return manifestPackage + name;
+        }
+
+        return name.indexOf('.') < 0 ? manifestPackage + "." + name : name;
+    }
+
+    private String createComponentName(@Nullable String manifestPackage, @NotNull String qualifiedName) {
+        if (manifestPackage != null && !manifestPackage.isEmpty() && qualifiedName.startsWith(manifestPackage + ".")) {
+            return qualifiedName.substring(manifestPackage.length());
+        }
+
+        return qualifiedName;
+    }
+
+    private static class ModuleManifests {
+        private final Map<Module, XmlFile> manifests;
+        private final XmlFile defaultManifest;
+
+        private ModuleManifests(@NotNull Map<Module, XmlFile> manifests, @Nullable XmlFile defaultManifest) {
+            this.manifests = manifests;
+            this.defaultManifest = defaultManifest;
+        }
+    }
+
+    private static class PendingRegistration {
+        private final String componentTag;
+        private final String qualifiedName;
+
+        private PendingRegistration(@NotNull String componentTag, @NotNull String qualifiedName) {
+            this.componentTag = componentTag;
+            this.qualifiedName = qualifiedName;
+        }
+    }
+}
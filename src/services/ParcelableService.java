@@ -0,0 +1,209 @@
+package services;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.*;
+import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.psi.util.PsiUtil;
+import com.intellij.psi.util.TypeConversionUtil;
+import com.intellij.util.IncorrectOperationException;
+import models.FieldDescriptor;
+import models.ParcelAccessor;
+import models.ParcelField;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import utils.SourceTemplate;
+
+import java.util.*;
+
+public class ParcelableService {
+
+    private static final String PARCEL = "android.os.Parcel";
+    private static final String PARCELABLE = "android.os.Parcelable";
+    private static final String SERIALIZABLE = "java.io.Serializable";
+    private static final String STRING = "java.lang.String";
+    private static final String LIST = "java.util.List";
+    private static final String ARRAY_LIST = "java.util.ArrayList";
+    private static final String CREATOR = "CREATOR";
+    private static final String UNSUPPORTED_PARCEL_TYPE = "Parcel has no accessor for type ";
+
+    private static final String CLASS_NAME_PLACEHOLDER = "CLASS_NAME";
+    private static final String READ_STATEMENTS_PLACEHOLDER = "READ_STATEMENTS";
+    private static final String WRITE_STATEMENTS_PLACEHOLDER = "WRITE_STATEMENTS";
+
+    private static final SourceTemplate PARCELABLE_TEMPLATE = SourceTemplate.compile(
+            "protected ${CLASS_NAME}(" + PARCEL + " in) {\n"
+                    + "${READ_STATEMENTS}"
+                    + "}\n"
+                    + "@Override\n"
+                    + "public void writeToParcel(" + PARCEL + " dest, int flags) {\n"
+                    + "${WRITE_STATEMENTS}"
+                    + "}\n"
+                    + "@Override\n"
+                    + "public int describeContents() {\n"
+                    + "return 0;\n"
+                    + "}\n"
+                    + "public static final " + PARCELABLE + ".Creator<${CLASS_NAME}> " + CREATOR
+                    + " = new " + PARCELABLE + ".Creator<${CLASS_NAME}>() {\n"
+                    + "@Override\n"
+                    + "public ${CLASS_NAME} createFromParcel(" + PARCEL + " in) {\n"
+                    + "return new ${CLASS_NAME}(in);\n"
+                    + "}\n"
+                    + "@Override\n"
+                    + "public ${CLASS_NAME}[] newArray(int size) {\n"
+                    + "return new ${CLASS_NAME}[size];\n"
+                    + "}\n"
+                    + "};\n"
+    );
+    private static final Map<String, ParcelAccessor> VALUE_ACCESSORS = new HashMap<>();
+    private static final Map<String, ParcelAccessor> NULLABLE_ACCESSORS = new HashMap<>();
+
+    static {
+        VALUE_ACCESSORS.put(PsiType.BYTE.getCanonicalText(), ParcelAccessor.BYTE);
+        VALUE_ACCESSORS.put(PsiType.SHORT.getCanonicalText(), ParcelAccessor.SHORT);
+        VALUE_ACCESSORS.put(PsiType.CHAR.getCanonicalText(), ParcelAccessor.CHAR);
+        VALUE_ACCESSORS.put(PsiType.INT.getCanonicalText(), ParcelAccessor.INT);
+        VALUE_ACCESSORS.put(PsiType.LONG.getCanonicalText(), ParcelAccessor.LONG);
+        VALUE_ACCESSORS.put(PsiType.FLOAT.getCanonicalText(), ParcelAccessor.FLOAT);
+        VALUE_ACCESSORS.put(PsiType.DOUBLE.getCanonicalText(), ParcelAccessor.DOUBLE);
+        VALUE_ACCESSORS.put(PsiType.BOOLEAN.getCanonicalText(), ParcelAccessor.BOOLEAN);
+
+        NULLABLE_ACCESSORS.put(CommonClassNames.JAVA_LANG_BYTE, ParcelAccessor.BYTE);
+        NULLABLE_ACCESSORS.put(CommonClassNames.JAVA_LANG_SHORT, ParcelAccessor.SHORT);
+        NULLABLE_ACCESSORS.put(CommonClassNames.JAVA_LANG_CHARACTER, ParcelAccessor.CHAR);
+        NULLABLE_ACCESSORS.put(CommonClassNames.JAVA_LANG_INTEGER, ParcelAccessor.INT);
+        NULLABLE_ACCESSORS.put(CommonClassNames.JAVA_LANG_LONG, ParcelAccessor.LONG);
+        NULLABLE_ACCESSORS.put(CommonClassNames.JAVA_LANG_FLOAT, ParcelAccessor.FLOAT);
+        NULLABLE_ACCESSORS.put(CommonClassNames.JAVA_LANG_DOUBLE, ParcelAccessor.DOUBLE);
+        NULLABLE_ACCESSORS.put(CommonClassNames.JAVA_LANG_BOOLEAN, ParcelAccessor.BOOLEAN);
+    }
+
+    private final Project project;
+    private final PsiElementFactory elementFactory;
+    private final GenerationStats generationStats;
+
+    public ParcelableService(@NotNull Project project) {
+        this.project = project;
+        elementFactory = PsiElementFactory.getInstance(project);
+        generationStats = GenerationStats.getInstance(project);
+    }
+
+    public static ParcelableService getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, ParcelableService.class);
+    }
+
+    public void addParcelableMembers(@NotNull PsiClass targetClass, @NotNull List<FieldDescriptor> fields) {
+        final String className = targetClass.getName();
+        if (className == null) {
+            return;
+        }
+
+        final List<ParcelField> parcelFields = new ArrayList<>();
+        for (FieldDescriptor field : fields) {
+            final PsiField psiField = targetClass.findFieldByName(field.getName(), false);
+            if (psiField != null) {
+                parcelFields.add(createParcelField(field, psiField.getType()));
+            }
+        }
+
+        final String membersText;
+        try (GenerationStats.Phase ignored = generationStats.startPhase(GenerationStats.PHASE_RENDER_TEXT)) {
+            membersText = renderParcelableMembers(className, parcelFields);
+        }
+        final PsiClass membersHolder = elementFactory.createClassFromText(membersText, targetClass);
+        generationStats.countParse();
+
+        final List<PsiElement> insertedMembers = new ArrayList<>();
+        try (GenerationStats.Phase ignored = generationStats.startPhase(GenerationStats.PHASE_INSERT_MEMBERS)) {
+            implementParcelable(targetClass);
+            for (PsiMethod method : membersHolder.getMethods()) {
+                final PsiMethod existingMethod = targetClass.findMethodBySignature(method, false);
+                insertedMembers.add(
+                        existingMethod != null ? existingMethod.replace(method) : targetClass.add(method)
+                );
+            }
+            for (PsiField field : membersHolder.getFields()) {
+                final PsiField existingField = targetClass.findFieldByName(field.getName(), false);
+                insertedMembers.add(existingField != null ? existingField.replace(field) : targetClass.add(field));
+            }
+        }
+        generationStats.countInsertions(insertedMembers.size());
+
+        BuilderService.getInstance(project).finishGeneration(targetClass, insertedMembers);
+    }
+
+    private String renderParcelableMembers(@NotNull String className, @NotNull List<ParcelField> fields) {
+        final StringBuilder readStatements = new StringBuilder();
+        final StringBuilder writeStatements = new StringBuilder();
+        for (ParcelField field : fields) {
+            field.render(writeStatements, readStatements);
+        }
+
+        final Map<String, String> values = new HashMap<>();
+        values.put(CLASS_NAME_PLACEHOLDER, className);
+        values.put(READ_STATEMENTS_PLACEHOLDER, readStatements.toString());
+        values.put(WRITE_STATEMENTS_PLACEHOLDER, writeStatements.toString());
+
+        return PARCELABLE_TEMPLATE.render(values);
+    }
+
+    private ParcelField createParcelField(@NotNull FieldDescriptor field, @NotNull PsiType type) {
+        final String typeText = type.getCanonicalText();
+        final String rawTypeText = TypeConversionUtil.erasure(type).getCanonicalText();
+        final ParcelAccessor valueAccessor = VALUE_ACCESSORS.get(typeText);
+        if (valueAccessor != null) {
+            return new ParcelField(field.getName(), typeText, rawTypeText, null, valueAccessor, false);
+        }
+
+        final ParcelAccessor nullableAccessor = NULLABLE_ACCESSORS.get(typeText);
+        if (nullableAccessor != null) {
+            return new ParcelField(field.getName(), typeText, rawTypeText, null, nullableAccessor, true);
+        }
+        if (STRING.equals(typeText)) {
+            return new ParcelField(field.getName(), typeText, rawTypeText, null, ParcelAccessor.STRING, false);
+        }
+
+        final PsiClass typeClass = PsiUtil.resolveClassInType(type);
+        if (typeClass != null && isListType(typeClass)) {
+            final PsiType itemType = PsiUtil.substituteTypeParameter(type, LIST, 0, false);
+            final PsiClass itemClass = PsiUtil.resolveClassInType(itemType);
+            if (itemType != null && STRING.equals(itemType.getCanonicalText())) {
+                return new ParcelField(field.getName(), typeText, rawTypeText, null, ParcelAccessor.STRING_LIST, false);
+            }
+            if (itemClass != null && InheritanceUtil.isInheritor(itemClass, PARCELABLE)) {
+                return new ParcelField(
+                        field.getName(),
+                        typeText,
+                        rawTypeText,
+                        itemClass.getQualifiedName(),
+                        ParcelAccessor.TYPED_LIST,
+                        false
+                );
+            }
+        } else if (typeClass != null && InheritanceUtil.isInheritor(typeClass, PARCELABLE)) {
+            return new ParcelField(field.getName(), typeText, rawTypeText, null, ParcelAccessor.PARCELABLE, false);
+        } else if (typeClass != null && InheritanceUtil.isInheritor(typeClass, SERIALIZABLE)) {
+            return new ParcelField(field.getName(), typeText, rawTypeText, null, ParcelAccessor.SERIALIZABLE, false);
+        }
+
+        throw new IncorrectOperationException(UNSUPPORTED_PARCEL_TYPE + typeText);
+    }
+
+    private boolean isListType(@NotNull PsiClass typeClass) {
+        final String qualifiedName = typeClass.getQualifiedName();
+
+        return LIST.equals(qualifiedName) || ARRAY_LIST.equals(qualifiedName);
+    }
+
+    private void implementParcelable(@NotNull PsiClass targetClass) {
+        final PsiReferenceList implementsList = targetClass.getImplementsList();
+        if (implementsList == null || InheritanceUtil.isInheritor(targetClass, PARCELABLE)) {
+            return;
+        }
+
+        implementsList.add(elementFactory.createReferenceElementByFQClassName(
+                PARCELABLE, targetClass.getResolveScope()
+        ));
+        generationStats.countInsertion();
+    }
+}
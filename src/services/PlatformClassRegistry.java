@@ -0,0 +1,111 @@
+package services;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootModificationTracker;
+import com.intellij.psi.*;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class PlatformClassRegistry {
+
+    private static final ClassHandle MISSING_CLASS = new ClassHandle(null, null);
+
+    private final Project project;
+    private final JavaPsiFacade javaFacade;
+    private final PsiElementFactory elementFactory;
+    private final SmartPointerManager smartPointerManager;
+    private final SmartTypePointerManager smartTypePointerManager;
+    private final GenerationStats generationStats;
+    private final CachedValue<Map<String, ClassHandle>> classHandles;
+
+    public PlatformClassRegistry(@NotNull Project project) {
+        this.project = project;
+        javaFacade = JavaPsiFacade.getInstance(project);
+        elementFactory = PsiElementFactory.getInstance(project);
+        smartPointerManager = SmartPointerManager.getInstance(project);
+        smartTypePointerManager = SmartTypePointerManager.getInstance(project);
+        generationStats = GenerationStats.getInstance(project);
+        classHandles = CachedValuesManager.getManager(project).createCachedValue(
+                () -> CachedValueProvider.Result.create(
+                        new ConcurrentHashMap<>(),
+                        ProjectRootModificationTracker.getInstance(project)
+                ),
+                false
+        );
+    }
+
+    public static PlatformClassRegistry getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, PlatformClassRegistry.class);
+    }
+
+    @Nullable
+    public PsiClass findClass(@NotNull String qualifiedName) {
+        final ClassHandle classHandle = findClassHandle(qualifiedName);
+
+        return classHandle.classPointer != null ? classHandle.classPointer.getElement() : null;
+    }
+
+    @Nullable
+    public PsiClassType getClassType(@NotNull String qualifiedName) {
+        final ClassHandle classHandle = findClassHandle(qualifiedName);
+        final PsiType classType = classHandle.typePointer != null ? classHandle.typePointer.getType() : null;
+
+        return classType instanceof PsiClassType ? (PsiClassType) classType : null;
+    }
+
+    private ClassHandle findClassHandle(@NotNull String qualifiedName) {
+        final Map<String, ClassHandle> handles = classHandles.getValue();
+        final ClassHandle classHandle = handles.get(qualifiedName);
+        if (classHandle != null && classHandle.isValid()) {
+            return classHandle;
+        }
+
+        final ClassHandle resolvedHandle = resolveClassHandle(qualifiedName);
+        if (resolvedHandle != MISSING_CLASS) {
+            handles.put(qualifiedName, resolvedHandle);
+        } else {
+            handles.remove(qualifiedName);
+        }
+
+        return resolvedHandle;
+    }
+
+    private ClassHandle resolveClassHandle(@NotNull String qualifiedName) {
+        final PsiClass psiClass;
+        try (GenerationStats.Phase ignored = generationStats.startPhase(GenerationStats.PHASE_FIND_CLASS)) {
+            psiClass = javaFacade.findClass(qualifiedName, GlobalSearchScope.allScope(project));
+        }
+        if (psiClass == null) {
+            return MISSING_CLASS;
+        }
+
+        return new ClassHandle(
+                smartPointerManager.createSmartPsiElementPointer(psiClass),
+                smartTypePointerManager.createSmartTypePointer(elementFactory.createType(psiClass))
+        );
+    }
+
+    private static class ClassHandle {
+        private final SmartPsiElementPointer<PsiClass> classPointer;
+        private final SmartTypePointer typePointer;
+
+        private ClassHandle(
+                @Nullable SmartPsiElementPointer<PsiClass> classPointer, @Nullable SmartTypePointer typePointer
+        ) {
+            this.classPointer = classPointer;
+            this.typePointer = typePointer;
+        }
+
+        private boolean isValid() {
+            return classPointer != null && classPointer.getElement() != null;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package services;
+
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.roots.ProjectRootModificationTracker;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+public class ResourceDirectoryIndex {
+
+    private static final String LAYOUT_DIRECTORY = "layout";
+    private static final String RESOURCE_LAYOUT_DIRECTORY = "../res/layout";
+    private static final String XML_EXTENSION = ".xml";
+
+    private final PsiManager psiManager;
+    private final CachedValue<Map<Module, ModuleLayouts>> moduleLayouts;
+
+    public ResourceDirectoryIndex(@NotNull Project project) {
+        psiManager = PsiManager.getInstance(project);
+        moduleLayouts = CachedValuesManager.getManager(project).createCachedValue(
+                () -> CachedValueProvider.Result.create(
+                        collectModuleLayouts(project),
+                        VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS,
+                        ProjectRootModificationTracker.getInstance(project)
+                ),
+                false
+        );
+    }
+
+    public static ResourceDirectoryIndex getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, ResourceDirectoryIndex.class);
+    }
+
+    @Nullable
+    public VirtualFile findLayoutDirectory(@NotNull PsiElement context) {
+        final ModuleLayouts layouts = findModuleLayouts(context);
+
+        return layouts != null ? layouts.layoutDirectory : null;
+    }
+
+    public boolean hasLayout(@NotNull PsiElement context, @NotNull String layoutName) {
+        final ModuleLayouts layouts = findModuleLayouts(context);
+
+        return layouts != null && layouts.layoutNames.contains(layoutName);
+    }
+
+    @Nullable
+    public PsiFile findLayoutFile(@NotNull PsiElement context, @NotNull String layoutName) {
+        final ModuleLayouts layouts = findModuleLayouts(context);
+        if (layouts == null || !layouts.layoutNames.contains(layoutName) || !layouts.layoutDirectory.isValid()) {
+            return null;
+        }
+
+        final VirtualFile layoutFile = layouts.layoutDirectory.findChild(layoutName + XML_EXTENSION);
+        return layoutFile != null ? psiManager.findFile(layoutFile) : null;
+    }
+
+    @Nullable
+    private ModuleLayouts findModuleLayouts(@NotNull PsiElement context) {
+        final Module module = ModuleUtilCore.findModuleForPsiElement(context);
+
+        return module != null ? moduleLayouts.getValue().get(module) : null;
+    }
+
+    private static Map<Module, ModuleLayouts> collectModuleLayouts(@NotNull Project project) {
+        final Map<Module, ModuleLayouts> layouts = new HashMap<>();
+        for (Module module : ModuleManager.getInstance(project).getModules()) {
+            final VirtualFile layoutDirectory = findModuleLayoutDirectory(module);
+            if (layoutDirectory != null) {
+                final Set<String> layoutNames = new HashSet<>();
+                for (VirtualFile layoutFile : layoutDirectory.getChildren()) {
+                    if (!layoutFile.isDirectory()) {
+                        layoutNames.add(layoutFile.getNameWithoutExtension());
+                    }
+                }
+                layouts.put(module, new ModuleLayouts(layoutDirectory, Collections.unmodifiableSet(layoutNames)));
+            }
+        }
+
+        return layouts;
+    }
+
+    @Nullable
+    private static VirtualFile findModuleLayoutDirectory(@NotNull Module module) {
+        for (VirtualFile sourceRoot : ModuleRootManager.getInstance(module).getSourceRoots()) {
+            VirtualFile layoutDirectory = sourceRoot.findFileByRelativePath(LAYOUT_DIRECTORY);
+            if (layoutDirectory == null) {
+                layoutDirectory = sourceRoot.findFileByRelativePath(RESOURCE_LAYOUT_DIRECTORY);
+            }
+            if (layoutDirectory != null && layoutDirectory.isDirectory()) {
+                return layoutDirectory;
+            }
+        }
+
+        return null;
+    }
+
+    private static class ModuleLayouts {
+        private final VirtualFile layoutDirectory;
+        private final Set<String> layoutNames;
+
+        private ModuleLayouts(@NotNull VirtualFile layoutDirectory, @NotNull Set<String> layoutNames) {
+            this.layoutDirectory = layoutDirectory;
+            this.layoutNames = layoutNames;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package utils;
+
+import com.intellij.psi.PsiNameHelper;
+import models.ComponentKind;
+import models.ComponentSpec;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ComponentSpecParser {
+
+    private static final String COMMENT_PREFIX = "#";
+    private static final char COLUMN_SEPARATOR = ',';
+    private static final char METHOD_SEPARATOR = ';';
+
+    public static List<ComponentSpec> parse(@NotNull String specText, @NotNull PsiNameHelper nameHelper) {
+        final List<ComponentSpec> specs = new ArrayList<>();
+        final String[] lines = specText.split("\\R");
+        for (int i = 0; i < lines.length; i++) {
+            final String line = lines[i].trim();
+            if (!line.isEmpty() && !line.startsWith(COMMENT_PREFIX)) {
+                specs.add(parseLine(line, i + 1, nameHelper));
+            }
+        }
+
+        return specs;
+    }
+
+    private static ComponentSpec parseLine(@NotNull String line, int lineNumber, @NotNull PsiNameHelper nameHelper) {
+        final List<String> columns = split(line, COLUMN_SEPARATOR);
+        if (columns.size() < 2 || columns.size() > 4) {
+            throw new IllegalArgumentException(
+                    "Line " + lineNumber + ": expected kind,name[,package][,method;method]"
+            );
+        }
+
+        final ComponentKind kind = ComponentKind.fromSpecName(columns.get(0));
+        if (kind == null) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": unknown component kind " + columns.get(0));
+        }
+        final String name = columns.get(1);
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": component name is empty");
+        }
+        if (!nameHelper.isIdentifier(name)) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": " + name + " is not a valid class name");
+        }
+        final String packageName = columns.size() > 2 && !columns.get(2).isEmpty() ? columns.get(2) : null;
+        if (packageName != null && !nameHelper.isQualifiedName(packageName)) {
+            throw new IllegalArgumentException(
+                    "Line " + lineNumber + ": " + packageName + " is not a valid package name"
+            );
+        }
+        final List<String> methodNames = columns.size() > 3
+                ? split(columns.get(3), METHOD_SEPARATOR)
+                : new ArrayList<>();
+        methodNames.removeIf(String::isEmpty);
+
+        return new ComponentSpec(kind, name, packageName, methodNames);
+    }
+
+    private static List<String> split(@NotNull String text, char separator) {
+        final List<String> parts = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= text.length(); i++) {
+            if (i == text.length() || text.charAt(i) == separator) {
+                parts.add(text.substring(start, i).trim());
+                start = i + 1;
+            }
+        }
+
+        return parts;
+    }
+}
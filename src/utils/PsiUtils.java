@@ -1,11 +1,14 @@
 package utils;
 
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.*;
 import com.intellij.psi.codeStyle.JavaCodeStyleManager;
 import com.intellij.psi.search.GlobalSearchScope;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import services.GenerationStats;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,29 +22,26 @@ public class PsiUtils {
     public static final String GET = "get";
     public static final String SET = "set";
     public static final String IS_EMPTY = "isEmpty";
+    private static final String IMPORT_FILE_NAME = "_Import_.java";
 
     private final PsiElementFactory elementFactory;
     private final JavaCodeStyleManager javaCodeStyleManager;
-    private final JavaPsiFacade javaFacade;
     private final GlobalSearchScope globalSearchScope;
     private final PsiManager psiManager;
+    private final PsiFileFactory fileFactory;
+    private final GenerationStats generationStats;
 
-    private static PsiUtils instance;
-
-    private PsiUtils(@NotNull Project project) {
+    public PsiUtils(@NotNull Project project) {
+        generationStats = GenerationStats.getInstance(project);
         elementFactory = PsiElementFactory.getInstance(project);
         javaCodeStyleManager = JavaCodeStyleManager.getInstance(project);
-        javaFacade = JavaPsiFacade.getInstance(project);
         globalSearchScope = GlobalSearchScope.allScope(project);
         psiManager = PsiManager.getInstance(project);
+        fileFactory = PsiFileFactory.getInstance(project);
     }
 
     public static PsiUtils getInstance(@NotNull Project project) {
-        if (instance == null) {
-            instance = new PsiUtils(project);
-        }
-
-        return instance;
+        return ServiceManager.getService(project, PsiUtils.class);
     }
 
     public void extendClass(@NotNull PsiClass targetClass, @NotNull PsiClass parentClass) {
@@ -133,7 +133,7 @@ public class PsiUtils {
                 }
             }
             callSuperText.append(");");
-            final PsiStatement callSuperStatement = elementFactory.createStatementFromText(
+            final PsiStatement callSuperStatement = createStatementFromText(
                     callSuperText.toString(), overridedMethod
             );
             codeBlock.add(callSuperStatement);
@@ -157,10 +157,8 @@ public class PsiUtils {
         }
     }
 
-    public List<PsiMethod> findMethods(@NotNull String className, @NotNull String[] methodNames) {
+    public List<PsiMethod> findMethods(@Nullable PsiClass componentClass, @NotNull String[] methodNames) {
         final List<PsiMethod> methods = new ArrayList<>();
-        final PsiClass componentClass = javaFacade.findClass(className, globalSearchScope);
-
         if (componentClass != null) {
             for (String methodName : methodNames) {
                 final PsiMethod[] foundedMethods = componentClass.findMethodsByName(methodName, true);
@@ -198,6 +196,35 @@ public class PsiUtils {
         return "";
     }
 
+    public String createOverrideSignature(@NotNull PsiMethod method) {
+        final PsiType returnType = method.getReturnType();
+        final StringBuilder signatureText = new StringBuilder("@" + OVERRIDE + " " + PsiModifier.PUBLIC + " ")
+                .append(returnType != null ? returnType.getCanonicalText() : PsiKeyword.VOID)
+                .append(" ")
+                .append(method.getName())
+                .append("(");
+        final PsiParameter[] parameters = method.getParameterList().getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            final PsiModifierList parameterModifiers = parameters[i].getModifierList();
+            if (parameterModifiers != null) {
+                for (PsiAnnotation annotation : parameterModifiers.getAnnotations()) {
+                    final String annotationName = annotation.getQualifiedName();
+                    if (annotationName != null) {
+                        signatureText.append("@").append(annotationName).append(" ");
+                    }
+                }
+            }
+            signatureText.append(parameters[i].getType().getCanonicalText())
+                    .append(" ")
+                    .append(parameters[i].getName());
+            if (parameters.length > 1 && i < parameters.length - 1) {
+                signatureText.append(", ");
+            }
+        }
+
+        return signatureText.append(")").toString();
+    }
+
     public String createMethodCall(
             @NotNull String name, @Nullable List<String> params, @Nullable String objectName, boolean isConstructor
     ) {
@@ -235,7 +262,7 @@ public class PsiUtils {
             }
         }
         lambdaTemplate.append(")").append(" -> ").append("{}");
-        final PsiStatement lambdaStatement = elementFactory.createStatementFromText(
+        final PsiStatement lambdaStatement = createStatementFromText(
                 lambdaTemplate.toString(), null
         );
         final PsiLambdaExpression lambda = (PsiLambdaExpression) lambdaStatement.getFirstChild();
@@ -258,7 +285,7 @@ public class PsiUtils {
         final PsiStatement createVariableStatement = elementFactory.createVariableDeclarationStatement(
                 variableName, variableType,initializer
         );
-        javaCodeStyleManager.shortenClassReferences(createVariableStatement);
+        shortenClassReferences(createVariableStatement);
 
         return createVariableStatement;
     }
@@ -270,13 +297,13 @@ public class PsiUtils {
         final String constructorCallText = createMethodCall(
                 typeName, constructorParams, null, true
         );
-        final PsiExpression variableExpression = elementFactory.createExpressionFromText(
+        final PsiExpression variableExpression = createExpressionFromText(
                 constructorCallText, null
         );
         final PsiStatement createVariableStatement = elementFactory.createVariableDeclarationStatement(
                 variableName, variableType, variableExpression
         );
-        javaCodeStyleManager.shortenClassReferences(createVariableStatement);
+        shortenClassReferences(createVariableStatement);
 
         return createVariableStatement;
     }
@@ -317,7 +344,7 @@ public class PsiUtils {
         }
         constantModifiers.add(PsiModifier.STATIC);
         constantModifiers.add(PsiModifier.FINAL);
-        final PsiExpression initializer = elementFactory.createExpressionFromText(
+        final PsiExpression initializer = createExpressionFromText(
                 StringUtils.quote(value), null
         );
 
@@ -336,21 +363,21 @@ public class PsiUtils {
         } else {
             statementText = name + " = " + PsiKeyword.NULL + ";";
         }
-        return elementFactory.createStatementFromText(statementText, null);
+        return createStatementFromText(statementText, null);
     }
 
     public void addAnnotation(@NotNull PsiParameter parameter, @NotNull String annotationText) {
         final PsiModifierList parameterModifiers = parameter.getModifierList();
         if (parameterModifiers != null) {
             final PsiAnnotation annotation = parameterModifiers.addAnnotation(annotationText);
-            javaCodeStyleManager.shortenClassReferences(annotation);
+            shortenClassReferences(annotation);
         }
     }
 
     public void addAnnotation(@NotNull PsiMethod method, @NotNull String annotationText) {
         final PsiModifierList modifierList = method.getModifierList();
         final PsiAnnotation annotation = modifierList.addAnnotation(annotationText);
-        javaCodeStyleManager.shortenClassReferences(annotation);
+        shortenClassReferences(annotation);
     }
 
     public PsiIfStatement createIfStatement(
@@ -358,7 +385,7 @@ public class PsiUtils {
             @NotNull List<PsiStatement> ifBranchStatements,
             @Nullable List<PsiStatement> elseBranchStatements
     ) {
-        final PsiIfStatement ifElseStatement = (PsiIfStatement)elementFactory.createStatementFromText(
+        final PsiIfStatement ifElseStatement = (PsiIfStatement)createStatementFromText(
                 "if(condition){}else{}", null
         );
         final PsiElement[] elements = ifElseStatement.getChildren();
@@ -394,7 +421,7 @@ public class PsiUtils {
             @NotNull PsiStatement elseIfBranchStatement,
             @Nullable PsiStatement elseBranchStatement
     ) {
-        final PsiStatement ifElseStatement = elementFactory.createStatementFromText(
+        final PsiStatement ifElseStatement = createStatementFromText(
                 "if(c1){}else if(c2){}else{}", null
         );
         final PsiElement[] elements = ifElseStatement.getChildren();
@@ -439,13 +466,13 @@ public class PsiUtils {
             @NotNull String secondaryStatement
     ) {
         final String ternaryStatement = condition + " ? " + primaryStatement + " : " + secondaryStatement;
-        return elementFactory.createExpressionFromText(ternaryStatement, null);
+        return createExpressionFromText(ternaryStatement, null);
     }
 
     public PsiExpression createInstanceOfExpression(@NotNull String targetObject, @NotNull String className) {
         final String instanceOf = targetObject + " " + PsiKeyword.INSTANCEOF + " " + className;
 
-        return elementFactory.createExpressionFromText(instanceOf, null);
+        return createExpressionFromText(instanceOf, null);
     }
 
     public PsiStatement createClassCastStatement(
@@ -453,7 +480,45 @@ public class PsiUtils {
     ) {
         String classCastText = targetObject + " = " + "(" + targetClassName + ")" + currentObject + ";";
 
-        return elementFactory.createStatementFromText(classCastText, null);
+        return createStatementFromText(classCastText, null);
+    }
+
+    public void addImport(@NotNull PsiJavaFile javaFile, @NotNull String qualifiedName) {
+        final PsiImportList importList = javaFile.getImportList();
+        if (importList == null || importList.findSingleClassImportStatement(qualifiedName) != null) {
+            return;
+        }
+
+        final PsiFile importFile = fileFactory.createFileFromText(
+                IMPORT_FILE_NAME, JavaFileType.INSTANCE, PsiKeyword.IMPORT + " " + qualifiedName + ";"
+        );
+        generationStats.countParse();
+        final PsiImportList parsedImportList = importFile instanceof PsiJavaFile
+                ? ((PsiJavaFile) importFile).getImportList()
+                : null;
+        if (parsedImportList != null) {
+            for (PsiImportStatementBase importStatement : parsedImportList.getAllImportStatements()) {
+                importList.add(importStatement);
+            }
+        }
+    }
+
+    public PsiStatement createStatementFromText(@NotNull String text, @Nullable PsiElement context) {
+        generationStats.countParse();
+
+        return elementFactory.createStatementFromText(text, context);
+    }
+
+    public PsiExpression createExpressionFromText(@NotNull String text, @Nullable PsiElement context) {
+        generationStats.countParse();
+
+        return elementFactory.createExpressionFromText(text, context);
+    }
+
+    public PsiElement shortenClassReferences(@NotNull PsiElement element) {
+        try (GenerationStats.Phase ignored = generationStats.startPhase(GenerationStats.PHASE_SHORTEN_REFERENCES)) {
+            return javaCodeStyleManager.shortenClassReferences(element);
+        }
     }
 
     public PsiType getStringType() {
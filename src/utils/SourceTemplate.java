@@ -0,0 +1,66 @@
+package utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public final class SourceTemplate {
+
+    private static final String PLACEHOLDER_START = "${";
+    private static final String PLACEHOLDER_END = "}";
+
+    private final String[] fragments;
+    private final String[] placeholders;
+    private final int fragmentsLength;
+
+    private SourceTemplate(@NotNull String[] fragments, @NotNull String[] placeholders) {
+        this.fragments = fragments;
+        this.placeholders = placeholders;
+        int length = 0;
+        for (String fragment : fragments) {
+            length += fragment.length();
+        }
+        fragmentsLength = length;
+    }
+
+    public static SourceTemplate compile(@NotNull String template) {
+        final List<String> fragments = new ArrayList<>();
+        final List<String> placeholders = new ArrayList<>();
+        int fragmentStart = 0;
+        int placeholderStart = template.indexOf(PLACEHOLDER_START);
+        while (placeholderStart >= 0) {
+            final int placeholderEnd = template.indexOf(PLACEHOLDER_END, placeholderStart);
+            if (placeholderEnd < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at " + placeholderStart);
+            }
+            fragments.add(template.substring(fragmentStart, placeholderStart));
+            placeholders.add(template.substring(placeholderStart + PLACEHOLDER_START.length(), placeholderEnd));
+            fragmentStart = placeholderEnd + PLACEHOLDER_END.length();
+            placeholderStart = template.indexOf(PLACEHOLDER_START, fragmentStart);
+        }
+        fragments.add(template.substring(fragmentStart));
+
+        return new SourceTemplate(fragments.toArray(new String[0]), placeholders.toArray(new String[0]));
+    }
+
+    public String render(@NotNull Map<String, String> values) {
+        final StringBuilder text = new StringBuilder(fragmentsLength * 2);
+        render(text, values);
+
+        return text.toString();
+    }
+
+    public void render(@NotNull StringBuilder text, @NotNull Map<String, String> values) {
+        for (int i = 0; i < placeholders.length; i++) {
+            text.append(fragments[i]);
+            final String value = values.get(placeholders[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("No value for placeholder " + placeholders[i]);
+            }
+            text.append(value);
+        }
+        text.append(fragments[fragments.length - 1]);
+    }
+}
@@ -5,6 +5,8 @@ import org.jetbrains.annotations.Nullable;
 
 public class StringUtils {
 
+    private static final String INDENT = "    ";
+
     public static String capitalize(@Nullable String string) {
         if (string == null || string.isEmpty()) {
             return string;
@@ -20,32 +22,99 @@ public class StringUtils {
 
         return '"' + string + '"';
     }
+
     public static String convertCamelToSnake(
             @NotNull String camelCaseString, @Nullable String prefix, @Nullable String postfix, boolean toUpperCase
     ) {
-        final String[] stringWords = camelCaseString.split("(?=\\p{Upper})");
-        final StringBuilder stringBuilder = new StringBuilder((prefix != null && !prefix.isEmpty()) ? prefix : "");
+        final boolean hasPrefix = prefix != null && !prefix.isEmpty();
+        final boolean hasPostfix = postfix != null && !postfix.isEmpty();
+        final int length = camelCaseString.length();
+        final StringBuilder stringBuilder = new StringBuilder(
+                length * 2 + (hasPrefix ? prefix.length() : 0) + (hasPostfix ? postfix.length() + 1 : 0)
+        );
+
+        if (hasPrefix) {
+            appendConverted(stringBuilder, prefix, 0, prefix.length(), toUpperCase);
+        }
 
-        for (String word : stringWords) {
-            if (!word.equalsIgnoreCase(prefix)) {
-                if (!stringBuilder.toString().isEmpty()) {
-                    stringBuilder.append("_");
+        int wordStart = 0;
+        for (int i = 1; i <= length; i++) {
+            if (i == length || isWordStart(camelCaseString, i)) {
+                final int wordLength = i - wordStart;
+                final boolean isPrefix = hasPrefix
+                        && wordLength == prefix.length()
+                        && camelCaseString.regionMatches(true, wordStart, prefix, 0, wordLength);
+                if (!isPrefix) {
+                    if (stringBuilder.length() > 0) {
+                        stringBuilder.append('_');
+                    }
+                    appendConverted(stringBuilder, camelCaseString, wordStart, i, toUpperCase);
                 }
-                stringBuilder.append(word.toLowerCase());
+                wordStart = i;
             }
         }
 
-        if (postfix != null && !postfix.isEmpty()) {
-            stringBuilder.append("_").append(postfix);
+        if (hasPostfix) {
+            stringBuilder.append('_');
+            appendConverted(stringBuilder, postfix, 0, postfix.length(), toUpperCase);
         }
 
-        final String convertedString;
-        if (toUpperCase) {
-            convertedString = stringBuilder.toString().toUpperCase();
-        } else {
-            convertedString = stringBuilder.toString();
+        return stringBuilder.toString();
+    }
+
+    public static String convertSnakeToCamel(@NotNull String snakeCaseString, boolean capitalizeFirst) {
+        final StringBuilder stringBuilder = new StringBuilder(snakeCaseString.length());
+        boolean upperCaseNext = capitalizeFirst;
+        for (int i = 0; i < snakeCaseString.length(); i++) {
+            final char character = snakeCaseString.charAt(i);
+            if (character == '_') {
+                upperCaseNext = stringBuilder.length() > 0 || capitalizeFirst;
+            } else {
+                stringBuilder.append(upperCaseNext ? Character.toUpperCase(character) : character);
+                upperCaseNext = false;
+            }
         }
 
-        return convertedString;
+        return stringBuilder.toString();
+    }
+
+    public static String indentBlocks(@NotNull String text) {
+        final StringBuilder stringBuilder = new StringBuilder(text.length() * 2);
+        int depth = 0;
+        for (String line : text.split("\n")) {
+            final String trimmedLine = line.trim();
+            if (trimmedLine.startsWith("}")) {
+                depth = Math.max(0, depth - 1);
+            }
+            for (int i = 0; i < depth; i++) {
+                stringBuilder.append(INDENT);
+            }
+            stringBuilder.append(trimmedLine).append('\n');
+            if (trimmedLine.endsWith("{")) {
+                depth++;
+            }
+        }
+
+        return stringBuilder.toString();
+    }
+
+    private static boolean isWordStart(@NotNull String string, int index) {
+        if (!Character.isUpperCase(string.charAt(index))) {
+            return false;
+        }
+        if (!Character.isUpperCase(string.charAt(index - 1))) {
+            return true;
+        }
+
+        return index + 1 < string.length() && Character.isLowerCase(string.charAt(index + 1));
+    }
+
+    private static void appendConverted(
+            @NotNull StringBuilder stringBuilder, @NotNull String string, int start, int end, boolean toUpperCase
+    ) {
+        for (int i = start; i < end; i++) {
+            final char character = string.charAt(i);
+            stringBuilder.append(toUpperCase ? Character.toUpperCase(character) : Character.toLowerCase(character));
+        }
     }
 }
@@ -0,0 +1,80 @@
+package fixtures;
+
+import com.intellij.testFramework.fixtures.JavaCodeInsightTestFixture;
+import org.jetbrains.annotations.NotNull;
+
+public class AndroidStubs {
+
+    private static final String[] STUBS = {
+            "package androidx.annotation; public @interface NonNull {}",
+            "package androidx.annotation; public @interface Nullable {}",
+            "package androidx.annotation; public @interface StringRes {}",
+            "package androidx.annotation; public @interface LayoutRes {}",
+            "package android.content; public abstract class Context {}",
+            "package android.content; public interface DialogInterface {"
+                    + " interface OnClickListener { void onClick(DialogInterface dialog, int which); } }",
+            "package android.app; public class Dialog implements android.content.DialogInterface {}",
+            "package android.os; public interface Parcelable {"
+                    + " interface Creator<T> { T createFromParcel(Parcel source); T[] newArray(int size); }"
+                    + " int describeContents(); void writeToParcel(Parcel dest, int flags); }",
+            "package android.os; public final class Parcel {}",
+            "package android.os; public final class Bundle {"
+                    + " public void putBoolean(String key, boolean value) {}"
+                    + " public boolean getBoolean(String key) { return false; }"
+                    + " public boolean getBoolean(String key, boolean defaultValue) { return defaultValue; }"
+                    + " public void putInt(String key, int value) {}"
+                    + " public int getInt(String key) { return 0; }"
+                    + " public int getInt(String key, int defaultValue) { return defaultValue; }"
+                    + " public void putLong(String key, long value) {}"
+                    + " public long getLong(String key) { return 0; }"
+                    + " public long getLong(String key, long defaultValue) { return defaultValue; }"
+                    + " public void putString(String key, String value) {}"
+                    + " public String getString(String key) { return null; }"
+                    + " public String getString(String key, String defaultValue) { return defaultValue; }"
+                    + " public void putCharSequence(String key, CharSequence value) {}"
+                    + " public CharSequence getCharSequence(String key) { return null; }"
+                    + " public void putParcelable(String key, Parcelable value) {}"
+                    + " public <T extends Parcelable> T getParcelable(String key) { return null; }"
+                    + " public void putSerializable(String key, java.io.Serializable value) {}"
+                    + " public java.io.Serializable getSerializable(String key) { return null; } }",
+            "package android.view; public class View {}",
+            "package android.view; public class ViewGroup extends View {}",
+            "package android.view; public abstract class LayoutInflater {}",
+            "package android.text; public class TextUtils {"
+                    + " public static boolean isEmpty(CharSequence text) { return text == null; } }",
+            "package androidx.fragment.app; public class FragmentManager {}",
+            "package androidx.fragment.app; public class Fragment {"
+                    + " public android.view.View onCreateView(android.view.LayoutInflater inflater,"
+                    + " android.view.ViewGroup container, android.os.Bundle savedInstanceState) { return null; }"
+                    + " public void onStart() {}"
+                    + " public void onResume() {}"
+                    + " public void onSaveInstanceState(android.os.Bundle outState) {}"
+                    + " public void onPause() {}"
+                    + " public void onStop() {}"
+                    + " public void onDestroyView() {} }",
+            "package androidx.fragment.app; public class FragmentActivity {"
+                    + " public void onCreate(android.os.Bundle savedInstanceState) {}"
+                    + " protected void onStart() {}"
+                    + " protected void onResume() {}"
+                    + " protected void onSaveInstanceState(android.os.Bundle outState) {}"
+                    + " protected void onPause() {}"
+                    + " protected void onStop() {}"
+                    + " protected void onDestroy() {} }",
+            "package androidx.appcompat.app; public class AppCompatActivity"
+                    + " extends androidx.fragment.app.FragmentActivity {}",
+            "package androidx.fragment.app; public class DialogFragment extends Fragment"
+                    + " implements android.content.DialogInterface {"
+                    + " public android.app.Dialog onCreateDialog(android.os.Bundle savedInstanceState) { return null; }"
+                    + " public void onDismiss(android.content.DialogInterface dialog) {} }",
+            "package androidx.appcompat.app; public class AppCompatDialogFragment"
+                    + " extends androidx.fragment.app.DialogFragment {}",
+            "package androidx.appcompat.app; public class AlertDialog extends android.app.Dialog {"
+                    + " public static class Builder { public Builder(android.content.Context context) {} } }"
+    };
+
+    public static void addTo(@NotNull JavaCodeInsightTestFixture fixture) {
+        for (String stub : STUBS) {
+            fixture.addClass(stub);
+        }
+    }
+}
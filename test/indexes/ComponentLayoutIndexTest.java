@@ -0,0 +1,51 @@
+package indexes;
+
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import fixtures.AndroidStubs;
+import models.ComponentEntry;
+
+import java.util.Collections;
+import java.util.List;
+
+public class ComponentLayoutIndexTest extends LightJavaCodeInsightFixtureTestCase {
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        AndroidStubs.addTo(myFixture);
+        myFixture.addClass(
+                "package app; public final class R {"
+                        + " public static final class layout {"
+                        + " public static final int activity_main = 1;"
+                        + " public static final int activity_settings = 2; } }"
+        );
+        myFixture.addClass(
+                "package app;\n"
+                        + "public class MainActivity extends androidx.appcompat.app.AppCompatActivity {\n"
+                        + "    @Override\n"
+                        + "    public void onCreate(android.os.Bundle savedInstanceState) {\n"
+                        + "        super.onCreate(savedInstanceState);\n"
+                        + "        setContentView(R.layout.activity_main);\n"
+                        + "    }\n"
+                        + "}\n"
+        );
+    }
+
+    public void testFindComponentNames() {
+        assertEquals(
+                Collections.singletonList("app.MainActivity"),
+                ComponentLayoutIndex.findComponentNames(getProject(), "activity_main")
+        );
+        assertEmpty(ComponentLayoutIndex.findComponentNames(getProject(), "activity_settings"));
+    }
+
+    public void testFindComponentsByLayout() {
+        final List<ComponentEntry> components = ComponentRegistryIndex.findComponentsByLayout(
+                getProject(), "activity_main"
+        );
+
+        assertEquals(1, components.size());
+        assertEquals("app.MainActivity", components.get(0).getQualifiedName());
+        assertEquals("activity_main", components.get(0).getLayoutName());
+    }
+}
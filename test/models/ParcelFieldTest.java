@@ -0,0 +1,114 @@
+package models;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class ParcelFieldTest {
+
+    private static final Pattern WRITE_CALL = Pattern.compile("dest\\.write(\\w+)\\(");
+    private static final Pattern READ_CALL = Pattern.compile("in\\.(?:read|create)(\\w+)\\(");
+    private static final Pattern WRITTEN_FIELD = Pattern.compile("dest\\.write\\w+\\(\\(?(?:byte\\) \\()?(\\w+)");
+    private static final Pattern READ_FIELD = Pattern.compile("this\\.(\\w+) = ");
+
+    @Test
+    public void readsFieldsInWriteOrder() {
+        final List<ParcelField> fields = Arrays.asList(
+                new ParcelField("id", "long", "long", null, ParcelAccessor.LONG, false),
+                new ParcelField("count", "java.lang.Integer", "java.lang.Integer", null, ParcelAccessor.INT, true),
+                new ParcelField("enabled", "boolean", "boolean", null, ParcelAccessor.BOOLEAN, false),
+                new ParcelField("title", "java.lang.String", "java.lang.String", null, ParcelAccessor.STRING, false),
+                new ParcelField(
+                        "tags",
+                        "java.util.List<java.lang.String>",
+                        "java.util.List",
+                        null,
+                        ParcelAccessor.STRING_LIST,
+                        false
+                ),
+                new ParcelField("ratio", "java.lang.Double", "java.lang.Double", null, ParcelAccessor.DOUBLE, true)
+        );
+
+        final StringBuilder writeStatements = new StringBuilder();
+        final StringBuilder readStatements = new StringBuilder();
+        for (ParcelField field : fields) {
+            field.render(writeStatements, readStatements);
+        }
+
+        Assert.assertEquals(
+                Arrays.asList("id", "count", "enabled", "title", "tags", "ratio"),
+                findAll(READ_FIELD, readStatements.toString())
+        );
+        Assert.assertEquals(
+                Arrays.asList("Long", "Byte", "Byte", "Int", "Byte", "String", "StringList", "Byte", "Byte", "Double"),
+                findAll(WRITE_CALL, writeStatements.toString())
+        );
+        Assert.assertEquals(
+                Arrays.asList("Long", "Byte", "Int", "Byte", "String", "StringArrayList", "Byte", "Double"),
+                findAll(READ_CALL, readStatements.toString())
+        );
+    }
+
+    @Test
+    public void writesEveryFieldOnce() {
+        final StringBuilder writeStatements = new StringBuilder();
+        final StringBuilder readStatements = new StringBuilder();
+        new ParcelField("first", "int", "int", null, ParcelAccessor.INT, false).render(writeStatements, readStatements);
+        new ParcelField("second", "char", "char", null, ParcelAccessor.CHAR, false)
+                .render(writeStatements, readStatements);
+
+        Assert.assertEquals(Arrays.asList("first", "second"), findAll(WRITTEN_FIELD, writeStatements.toString()));
+        Assert.assertEquals(
+                "this.first = in.readInt();\nthis.second = (char) in.readInt();\n", readStatements.toString()
+        );
+    }
+
+    @Test
+    public void usesRawTypeForParcelableClassLoader() {
+        final StringBuilder writeStatements = new StringBuilder();
+        final StringBuilder readStatements = new StringBuilder();
+        new ParcelField(
+                "page", "com.example.Page<java.lang.String>", "com.example.Page", null, ParcelAccessor.PARCELABLE, false
+        ).render(writeStatements, readStatements);
+
+        Assert.assertEquals("dest.writeParcelable(page, flags);\n", writeStatements.toString());
+        Assert.assertEquals(
+                "this.page = in.readParcelable(com.example.Page.class.getClassLoader());\n",
+                readStatements.toString()
+        );
+    }
+
+    @Test
+    public void usesItemTypeCreatorForTypedList() {
+        final StringBuilder writeStatements = new StringBuilder();
+        final StringBuilder readStatements = new StringBuilder();
+        new ParcelField(
+                "pages",
+                "java.util.List<com.example.Page>",
+                "java.util.List",
+                "com.example.Page",
+                ParcelAccessor.TYPED_LIST,
+                false
+        ).render(writeStatements, readStatements);
+
+        Assert.assertEquals("dest.writeTypedList(pages);\n", writeStatements.toString());
+        Assert.assertEquals(
+                "this.pages = in.createTypedArrayList(com.example.Page.CREATOR);\n", readStatements.toString()
+        );
+    }
+
+    private static List<String> findAll(Pattern pattern, String text) {
+        final List<String> matches = new ArrayList<>();
+        final Matcher matcher = pattern.matcher(text);
+        while (matcher.find()) {
+            matches.add(matcher.group(1));
+        }
+
+        return matches;
+    }
+}
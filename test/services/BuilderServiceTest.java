@@ -0,0 +1,125 @@
+package services;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.psi.PsiClass;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.intellij.util.IncorrectOperationException;
+import models.BuilderOptions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+
+public class BuilderServiceTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final int GENERATED_MEMBERS = 2;
+    private static final BuilderOptions VALUE_CLASS = new BuilderOptions(false, true);
+
+    private BuilderService builderService;
+    private GenerationStats generationStats;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        builderService = BuilderService.getInstance(getProject());
+        generationStats = GenerationStats.getInstance(getProject());
+    }
+
+    public void testTenFields() {
+        checkGenerationCounts(10);
+    }
+
+    public void testHundredFields() {
+        checkGenerationCounts(100);
+    }
+
+    public void testThousandFields() {
+        checkGenerationCounts(1000);
+    }
+
+    public void testFinalFieldAssignedThroughConstructorChain() {
+        final PsiClass targetClass = myFixture.addClass(
+                "public class Point {\n"
+                        + "    private int x;\n"
+                        + "    public Point(int x) { this.x = x; }\n"
+                        + "    public Point() { this(0); }\n"
+                        + "}\n"
+        );
+
+        assertEquals(Collections.singletonList("x"), findFinalFieldNames(targetClass));
+    }
+
+    public void testFinalFieldMissingFromConstructor() {
+        final PsiClass targetClass = myFixture.addClass(
+                "public class Point {\n"
+                        + "    private int x;\n"
+                        + "    public Point(int x) { this.x = x; }\n"
+                        + "    public Point() {}\n"
+                        + "}\n"
+        );
+
+        checkCannotMakeFinal(targetClass);
+    }
+
+    public void testFinalFieldAssignedInMethod() {
+        final PsiClass targetClass = myFixture.addClass(
+                "public class Point {\n"
+                        + "    private int x;\n"
+                        + "    public Point(int x) { this.x = x; }\n"
+                        + "    public void move(int x) { this.x = x; }\n"
+                        + "}\n"
+        );
+
+        checkCannotMakeFinal(targetClass);
+    }
+
+    private void checkCannotMakeFinal(@NotNull PsiClass targetClass) {
+        try {
+            findFinalFieldNames(targetClass);
+            fail("Expected IncorrectOperationException");
+        } catch (IncorrectOperationException ignored) {
+        }
+    }
+
+    private List<String> findFinalFieldNames(@NotNull PsiClass targetClass) {
+        return builderService.findFinalFieldNames(
+                targetClass, builderService.collectOwnFieldDescriptors(targetClass), VALUE_CLASS
+        );
+    }
+
+    private void checkGenerationCounts(int fieldCount) {
+        final PsiClass targetClass = myFixture.addClass(createClassText("Target" + fieldCount, fieldCount));
+        generationStats.reset();
+
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+            final BuilderService.BuilderMembers builderMembers = builderService.createBuilderMembers(
+                    targetClass,
+                    builderService.collectFieldDescriptors(targetClass),
+                    BuilderOptions.DEFAULT,
+                    Collections.emptyList()
+            );
+            assertNotNull(builderMembers);
+            builderService.addBuilderMembers(targetClass, builderMembers);
+        });
+
+        final PsiClass builderClass = builderService.findBuilderClass(targetClass);
+        assertNotNull(builderClass);
+        assertEquals(fieldCount, builderClass.getFields().length);
+        assertEquals(1, generationStats.getParseCount());
+        assertEquals(GENERATED_MEMBERS, generationStats.getInsertionCount());
+    }
+
+    @NotNull
+    private static String createClassText(@NotNull String name, int fieldCount) {
+        final StringBuilder classText = new StringBuilder("public class ").append(name).append(" {\n");
+        for (int i = 0; i < fieldCount; i++) {
+            classText.append("    private ")
+                    .append(i % 2 == 0 ? "int" : "java.util.List<String>")
+                    .append(" field")
+                    .append(i)
+                    .append(";\n");
+        }
+
+        return classText.append("}\n").toString();
+    }
+}
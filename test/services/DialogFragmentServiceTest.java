@@ -0,0 +1,70 @@
+package services;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.codeStyle.CodeStyleManager;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import fixtures.AndroidStubs;
+import org.jetbrains.annotations.NotNull;
+import utils.PsiUtils;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+public class DialogFragmentServiceTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final String TEST_PACKAGE = "dialogs";
+
+    private DialogFragmentService dialogFragmentService;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        AndroidStubs.addTo(myFixture);
+        dialogFragmentService = DialogFragmentService.getInstance(getProject());
+    }
+
+    @Override
+    protected String getTestDataPath() {
+        return "testData/dialogFragment";
+    }
+
+    public void testAllMethods() throws IOException {
+        checkGeneratedClass("ConfirmDialogFragment", dialogFragmentService.provideParentComponentMethods());
+    }
+
+    public void testOnCreateDialogOnly() throws IOException {
+        checkGeneratedClass(
+                "InfoDialogFragment",
+                dialogFragmentService.provideParentComponentMethods(
+                        Collections.singletonList(AndroidService.ON_CREATE_DIALOG)
+                )
+        );
+    }
+
+    private void checkGeneratedClass(@NotNull String name, @NotNull List<PsiMethod> methods) throws IOException {
+        final PsiDirectory directory = getPsiManager().findDirectory(
+                myFixture.getTempDirFixture().findOrCreateDir(TEST_PACKAGE)
+        );
+        assertNotNull(directory);
+
+        final PsiJavaFile file = WriteCommandAction.writeCommandAction(getProject()).compute(() -> {
+            final PsiClass componentClass = dialogFragmentService.generateComponentClass(
+                    directory, name, methods, false
+            );
+            return (PsiJavaFile) CodeStyleManager.getInstance(getProject()).reformat(
+                    componentClass.getContainingFile()
+            );
+        });
+        assertNotNull(file.getImportList());
+
+        assertSameLinesWithFile(
+                getTestDataPath() + "/" + name + PsiUtils.JAVA_EXTENSION,
+                file.getImportList().getText() + "\n\n" + file.getClasses()[0].getText()
+        );
+    }
+}
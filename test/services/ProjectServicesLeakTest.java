@@ -0,0 +1,86 @@
+package services;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.impl.ProjectImpl;
+import com.intellij.psi.PsiElement;
+import com.intellij.testFramework.HeavyPlatformTestCase;
+import com.intellij.testFramework.LeakHunter;
+import com.intellij.testFramework.PlatformTestUtil;
+import org.jetbrains.annotations.NotNull;
+import utils.PsiUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+public class ProjectServicesLeakTest extends HeavyPlatformTestCase {
+
+    private static final int PROJECT_COUNT = 3;
+    private static final Class<?>[] PROJECT_SERVICES = {
+            PsiUtils.class,
+            ActivityService.class,
+            FragmentService.class,
+            DialogFragmentService.class,
+            BuilderService.class,
+            ComponentBatchService.class,
+            ManifestRegistry.class,
+            GenerationStats.class,
+            PlatformClassRegistry.class,
+            BundleAccessorTable.class,
+            ResourceDirectoryIndex.class,
+            ParcelableService.class
+    };
+
+    public void testServicesAreCreatedPerProject() {
+        final Project firstProject = PlatformTestUtil.loadAndOpenProject(getTempDir().newPath());
+        final Project secondProject = PlatformTestUtil.loadAndOpenProject(getTempDir().newPath());
+        try {
+            assertNotSame(PsiUtils.getInstance(firstProject), PsiUtils.getInstance(secondProject));
+            assertNotSame(ActivityService.getInstance(firstProject), ActivityService.getInstance(secondProject));
+            assertNotSame(FragmentService.getInstance(firstProject), FragmentService.getInstance(secondProject));
+            assertNotSame(
+                    DialogFragmentService.getInstance(firstProject), DialogFragmentService.getInstance(secondProject)
+            );
+        } finally {
+            PlatformTestUtil.forceCloseProjectWithoutSaving(firstProject);
+            PlatformTestUtil.forceCloseProjectWithoutSaving(secondProject);
+        }
+    }
+
+    public void testClosedProjectsAreNotRetained() {
+        for (int i = 0; i < PROJECT_COUNT; i++) {
+            final Project project = PlatformTestUtil.loadAndOpenProject(getTempDir().newPath());
+            try {
+                useServices(project);
+            } finally {
+                PlatformTestUtil.forceCloseProjectWithoutSaving(project);
+            }
+        }
+
+        LeakHunter.checkLeak(LeakHunter.allRoots(), ProjectImpl.class, Project::isDisposed);
+    }
+
+    public void testServicesKeepNoStaticState() {
+        for (Class<?> serviceClass : PROJECT_SERVICES) {
+            for (Class<?> type = serviceClass; type != Object.class; type = type.getSuperclass()) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                        continue;
+                    }
+
+                    final String fieldName = type.getName() + "." + field.getName();
+                    assertTrue(fieldName, Modifier.isFinal(field.getModifiers()));
+                    assertFalse(fieldName, Project.class.isAssignableFrom(field.getType()));
+                    assertFalse(fieldName, PsiElement.class.isAssignableFrom(field.getType()));
+                    assertFalse(fieldName, type.isAssignableFrom(field.getType()));
+                }
+            }
+        }
+    }
+
+    private static void useServices(@NotNull Project project) {
+        PsiUtils.getInstance(project).getStringType();
+        ActivityService.getInstance(project).provideParentComponentMethods();
+        FragmentService.getInstance(project).provideParentComponentMethods();
+        DialogFragmentService.getInstance(project).provideParentComponentMethods();
+    }
+}
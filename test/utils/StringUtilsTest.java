@@ -0,0 +1,77 @@
+package utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class StringUtilsTest {
+
+    private static final int SAMPLES = 10000;
+    private static final String[] PREFIXES = {null, "", "activity", "fragment", "dialog", "item"};
+    private static final String[] POSTFIXES = {null, "", "tag", "key"};
+    private static final String LOWER_CASE = "abcdefghijklmnopqrstuvwxyz";
+    private static final String DIGITS = "0123456789";
+
+    @Test
+    public void matchesLegacyConversionForCamelCaseNames() {
+        final Random random = new Random(42);
+        for (int i = 0; i < SAMPLES; i++) {
+            final String name = randomCamelCaseName(random);
+            final String prefix = random.nextInt(4) == 0
+                    ? randomWord(random).toLowerCase()
+                    : PREFIXES[random.nextInt(PREFIXES.length)];
+            final String postfix = POSTFIXES[random.nextInt(POSTFIXES.length)];
+            final boolean toUpperCase = random.nextBoolean();
+
+            Assert.assertEquals(
+                    name + " with " + prefix + ", " + postfix + ", " + toUpperCase,
+                    LegacyStringUtils.convertCamelToSnake(name, prefix, postfix, toUpperCase),
+                    StringUtils.convertCamelToSnake(name, prefix, postfix, toUpperCase)
+            );
+        }
+    }
+
+    @Test
+    public void keepsAcronymsTogether() {
+        Assert.assertEquals(
+                "fragment_url_parser", StringUtils.convertCamelToSnake("URLParserFragment", "fragment", null, false)
+        );
+        Assert.assertEquals("ios_version", StringUtils.convertCamelToSnake("IOSVersion", null, null, false));
+        Assert.assertEquals("ARG_USER_ID", StringUtils.convertCamelToSnake("userID", "arg", null, true));
+        Assert.assertEquals("activity_http", StringUtils.convertCamelToSnake("HTTPActivity", "activity", null, false));
+    }
+
+    @Test
+    public void convertsEdgeCases() {
+        Assert.assertEquals("", StringUtils.convertCamelToSnake("", null, null, false));
+        Assert.assertEquals("fragment", StringUtils.convertCamelToSnake("", "fragment", null, false));
+        Assert.assertEquals("main", StringUtils.convertCamelToSnake("main", null, null, false));
+        Assert.assertEquals("MAIN_DIALOG_TAG", StringUtils.convertCamelToSnake("MainDialog", null, "tag", true));
+    }
+
+    private static String randomCamelCaseName(Random random) {
+        final StringBuilder name = new StringBuilder();
+        if (random.nextInt(5) == 0) {
+            name.append(randomWord(random).toLowerCase());
+        }
+        final int wordCount = 1 + random.nextInt(5);
+        for (int i = 0; i < wordCount; i++) {
+            name.append(randomWord(random));
+        }
+
+        return name.toString();
+    }
+
+    private static String randomWord(Random random) {
+        final StringBuilder word = new StringBuilder();
+        word.append(Character.toUpperCase(LOWER_CASE.charAt(random.nextInt(LOWER_CASE.length()))));
+        final int length = 1 + random.nextInt(8);
+        for (int i = 0; i < length; i++) {
+            final String alphabet = random.nextInt(6) == 0 ? DIGITS : LOWER_CASE;
+            word.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+
+        return word.toString();
+    }
+}
@@ -0,0 +1,218 @@
+import android.app.Dialog;
+import android.os.Bundle;
+import android.text.TextUtils;
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.StringRes;
+import androidx.appcompat.app.AlertDialog;
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.appcompat.app.AppCompatDialogFragment;
+import androidx.fragment.app.Fragment;
+import androidx.fragment.app.FragmentManager;
+
+public class InfoDialogFragment extends AppCompatDialogFragment {
+    public static final String INFO_DIALOG_FRAGMENT_TAG = "info_dialog_fragment_tag";
+    private static final String ARG_TITLE_ID = "arg_title_id";
+    private static final String ARG_TITLE = "arg_title";
+    private static final String ARG_MESSAGE_ID = "arg_message_id";
+    private static final String ARG_MESSAGE = "arg_message";
+    private static final String ARG_POSITIVE_BUTTON_TEXT_ID = "arg_positive_button_text_id";
+    private static final String ARG_POSITIVE_BUTTON_TEXT = "arg_positive_button_text";
+    private static final String ARG_NEUTRAL_BUTTON_TEXT_ID = "arg_neutral_button_text_id";
+    private static final String ARG_NEUTRAL_BUTTON_TEXT = "arg_neutral_button_text";
+    private static final String ARG_NEGATIVE_BUTTON_TEXT_ID = "arg_negative_button_text_id";
+    private static final String ARG_NEGATIVE_BUTTON_TEXT = "arg_negative_button_text";
+    private static final String ARG_CANCELABLE = "arg_cancelable";
+    private static final String ARG_VIEW_RES_ID = "arg_view_res_id";
+
+    public InfoDialogFragment() {
+    }
+
+    @Override
+    public Dialog onCreateDialog(Bundle savedInstanceState) {
+        AlertDialog.Builder dialogBuilder = new AlertDialog.Builder(requireContext());
+        Bundle arguments = getArguments();
+        if (arguments != null) {
+            int titleId = arguments.getInt(ARG_TITLE_ID, 0);
+            if (titleId != 0) {
+                dialogBuilder.setTitle(titleId);
+            } else {
+                String title = arguments.getString(ARG_TITLE);
+                if (!TextUtils.isEmpty(title)) {
+                    dialogBuilder.setTitle(title);
+                }
+            }
+            int messageId = arguments.getInt(ARG_MESSAGE_ID, 0);
+            if (messageId != 0) {
+                dialogBuilder.setMessage(messageId);
+            } else {
+                String message = arguments.getString(ARG_MESSAGE);
+                if (!TextUtils.isEmpty(message)) {
+                    dialogBuilder.setMessage(message);
+                }
+            }
+            DialogFragmentInterface dialogFragmentInterface;
+            if (requireActivity() instanceof DialogFragmentInterface) {
+                dialogFragmentInterface = (DialogFragmentInterface) requireActivity();
+            } else if (getTargetFragment() instanceof DialogFragmentInterface) {
+                dialogFragmentInterface = (DialogFragmentInterface) getTargetFragment();
+            } else {
+                dialogFragmentInterface = null;
+            }
+            int positiveButtonId = arguments.getInt(ARG_POSITIVE_BUTTON_TEXT_ID, 0);
+            if (positiveButtonId != 0) {
+                dialogBuilder.setPositiveButton(positiveButtonId, (dialog, which) -> {
+                    if (dialogFragmentInterface != null) {
+                        dialogFragmentInterface.onPositiveButtonClicked();
+                    }
+                });
+            } else {
+                String positiveButton = arguments.getString(ARG_POSITIVE_BUTTON_TEXT);
+                dialogBuilder.setPositiveButton(positiveButton, (dialog, which) -> {
+                    if (dialogFragmentInterface != null) {
+                        dialogFragmentInterface.onPositiveButtonClicked();
+                    }
+                });
+            }
+            int neutralButtonId = arguments.getInt(ARG_NEUTRAL_BUTTON_TEXT_ID, 0);
+            if (neutralButtonId != 0) {
+                dialogBuilder.setNeutralButton(neutralButtonId, (dialog, which) -> {
+                    if (dialogFragmentInterface != null) {
+                        dialogFragmentInterface.onNeutralButtonClicked();
+                    }
+                });
+            } else {
+                String neutralButton = arguments.getString(ARG_NEUTRAL_BUTTON_TEXT);
+                dialogBuilder.setNeutralButton(neutralButton, (dialog, which) -> {
+                    if (dialogFragmentInterface != null) {
+                        dialogFragmentInterface.onNeutralButtonClicked();
+                    }
+                });
+            }
+            int negativeButtonId = arguments.getInt(ARG_NEGATIVE_BUTTON_TEXT_ID, 0);
+            if (negativeButtonId != 0) {
+                dialogBuilder.setNegativeButton(negativeButtonId, (dialog, which) -> {
+                    if (dialogFragmentInterface != null) {
+                        dialogFragmentInterface.onNegativeButtonClicked();
+                    }
+                });
+            } else {
+                String negativeButton = arguments.getString(ARG_NEGATIVE_BUTTON_TEXT);
+                dialogBuilder.setNegativeButton(negativeButton, (dialog, which) -> {
+                    if (dialogFragmentInterface != null) {
+                        dialogFragmentInterface.onNegativeButtonClicked();
+                    }
+                });
+            }
+        }
+        return dialogBuilder.create();
+    }
+
+    public interface DialogFragmentInterface {
+        public void onPositiveButtonClicked();
+
+        public void onNeutralButtonClicked();
+
+        public void onNegativeButtonClicked();
+    }
+
+    public static class Builder {
+        private final AppCompatActivity targetActivity;
+        private final Fragment targetFragment;
+        private final Bundle arguments = new Bundle();
+
+        public Builder(@NonNull AppCompatActivity targetActivity) {
+            this.targetActivity = targetActivity;
+            targetFragment = null;
+        }
+
+        public Builder(@NonNull Fragment targetFragment) {
+            this.targetFragment = targetFragment;
+            targetActivity = null;
+        }
+
+        public Builder setTitle(@StringRes int title) {
+            arguments.putInt(ARG_TITLE_ID, title);
+            return this;
+        }
+
+        public Builder setTitle(@Nullable String title) {
+            arguments.putString(ARG_TITLE, title);
+            return this;
+        }
+
+        public Builder setMessage(@StringRes int message) {
+            arguments.putInt(ARG_MESSAGE_ID, message);
+            return this;
+        }
+
+        public Builder setMessage(@Nullable String message) {
+            arguments.putString(ARG_MESSAGE, message);
+            return this;
+        }
+
+        public Builder setPositiveButton(@StringRes int positiveButton) {
+            arguments.putInt(ARG_POSITIVE_BUTTON_TEXT_ID, positiveButton);
+            return this;
+        }
+
+        public Builder setPositiveButton(@Nullable String positiveButton) {
+            arguments.putString(ARG_POSITIVE_BUTTON_TEXT, positiveButton);
+            return this;
+        }
+
+        public Builder setNeutralButton(@StringRes int neutralButton) {
+            arguments.putInt(ARG_NEUTRAL_BUTTON_TEXT_ID, neutralButton);
+            return this;
+        }
+
+        public Builder setNeutralButton(@Nullable String neutralButton) {
+            arguments.putString(ARG_NEUTRAL_BUTTON_TEXT, neutralButton);
+            return this;
+        }
+
+        public Builder setNegativeButton(@StringRes int negativeButton) {
+            arguments.putInt(ARG_NEGATIVE_BUTTON_TEXT_ID, negativeButton);
+            return this;
+        }
+
+        public Builder setNegativeButton(@Nullable String negativeButton) {
+            arguments.putString(ARG_NEGATIVE_BUTTON_TEXT, negativeButton);
+            return this;
+        }
+
+        public Builder setCancelable(boolean cancelable) {
+            arguments.putBoolean(ARG_CANCELABLE, cancelable);
+            return this;
+        }
+
+        public Builder setViewResId(@LayoutRes int viewResId) {
+            arguments.putInt(ARG_VIEW_RES_ID, viewResId);
+            return this;
+        }
+
+        public InfoDialogFragment create() {
+            InfoDialogFragment dialogFragment = new InfoDialogFragment();
+            dialogFragment.setArguments(arguments);
+            if (targetFragment != null) {
+                dialogFragment.setTargetFragment(targetFragment, dialogFragment.getTargetRequestCode());
+            }
+            return dialogFragment;
+        }
+
+        public void showDialog(@Nullable String tag) {
+            if (targetFragment == null && targetActivity == null) {
+                return;
+            }
+            FragmentManager fragmentManager = targetFragment != null ? targetFragment.requireFragmentManager() : targetActivity.getSupportFragmentManager();
+            String dialogFragmentTag = tag != null ? tag : INFO_DIALOG_FRAGMENT_TAG;
+            InfoDialogFragment dialogFragment = new InfoDialogFragment();
+            dialogFragment.setArguments(arguments);
+            if (targetFragment != null) {
+                dialogFragment.setTargetFragment(targetFragment, dialogFragment.getTargetRequestCode());
+            }
+            dialogFragment.show(fragmentManager, dialogFragmentTag);
+        }
+    }
+}